@@ -0,0 +1,76 @@
+// k6 load test: 5,000 concurrent connections against the users API.
+//
+// Every virtual user keeps its own keep-alive connection and loops over authenticated reads, so the test measures
+// how many blocking JDBC requests the server completes while 5,000 connections are open. Run it once with
+// spring.threads.virtual.enabled=false and once with it set to true (Java 21 build), then compare http_reqs/s
+// and the latency percentiles.
+//
+//   k6 run loadtest/users-5k.js
+//   k6 run -e BASE_URL=http://host:8080 -e VUS=5000 -e DURATION=2m -e LOGINS=true loadtest/users-5k.js
+//
+// LOGINS=true adds a login scenario that exercises BCrypt on its bounded pool. All logins come from one address,
+// so start the server with users.auth-rate-limit.enabled=false for that run.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '5000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const LOGINS = __ENV.LOGINS === 'true';
+
+const scenarios = {
+  reads: {
+    executor: 'constant-vus',
+    exec: 'reads',
+    vus: VUS,
+    duration: DURATION,
+  },
+};
+if (LOGINS) {
+  scenarios.logins = {
+    executor: 'constant-arrival-rate',
+    exec: 'logins',
+    rate: 50,
+    timeUnit: '1s',
+    duration: DURATION,
+    preAllocatedVUs: 200,
+  };
+}
+
+export const options = {
+  scenarios,
+  thresholds: {
+    'http_req_failed{scenario:reads}': ['rate<0.01'],
+    'http_req_duration{scenario:reads}': ['p(99)<1000'],
+  },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export function setup() {
+  const login = `loadtest-${Date.now()}`;
+  const password = 'LoadTest#2024';
+  const register = http.post(`${BASE_URL}/api/v1/users/auth/register`,
+    JSON.stringify({ name: 'Load Test', login, password }), { headers: JSON_HEADERS });
+  check(register, { 'registered': (r) => r.status === 200 });
+  const token = register.json('token');
+
+  const page = http.get(`${BASE_URL}/api/v1/users/get/page?limit=50`, { headers: { Authorization: `Bearer ${token}` } });
+  const ids = (page.json('users') || []).map((user) => user.id);
+  return { login, password, token, ids };
+}
+
+export function reads(data) {
+  const headers = { Authorization: `Bearer ${data.token}` };
+  const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const res = id
+    ? http.get(`${BASE_URL}/api/v1/users/get/${id}`, { headers })
+    : http.get(`${BASE_URL}/api/v1/users/get/page?limit=20`, { headers });
+  check(res, { 'read ok': (r) => r.status === 200 });
+}
+
+export function logins(data) {
+  const res = http.post(`${BASE_URL}/api/v1/users/auth/login`,
+    JSON.stringify({ login: data.login, password: data.password }), { headers: JSON_HEADERS });
+  check(res, { 'login ok or shed': (r) => r.status === 200 || r.status === 503 });
+}
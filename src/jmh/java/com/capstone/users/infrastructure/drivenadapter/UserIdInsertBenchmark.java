@@ -0,0 +1,107 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the insert throughput of the former id scheme (random UUIDv4 stored as VARCHAR(36)) against UUIDv7
+ * stored as BINARY(16), inserting batches into a table that already holds {@code preloadedRows} rows.
+ * <p>
+ * Defaults to an in-memory H2 database in MySQL mode. Index fragmentation shows best against InnoDB, so set the
+ * "jdbcUrl" parameter to a disposable MySQL schema (password in -DjdbcPassword) for representative numbers.
+ * <p>
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"jdbc:h2:mem:user_ids;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"200000"})
+    public int preloadedRows;
+
+    private final UuidV7UserIdGenerator uuidV7 = new UuidV7UserIdGenerator();
+    private Connection connection;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, "root", System.getProperty("jdbcPassword", ""));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS users_text_id");
+            statement.execute("DROP TABLE IF EXISTS users_binary_id");
+            statement.execute("CREATE TABLE users_text_id (id VARCHAR(36) NOT NULL PRIMARY KEY, "
+                    + "name VARCHAR(200) NOT NULL, login VARCHAR(20) NOT NULL UNIQUE, password VARCHAR(100) NOT NULL)");
+            statement.execute("CREATE TABLE users_binary_id (id BINARY(16) NOT NULL PRIMARY KEY, "
+                    + "name VARCHAR(200) NOT NULL, login VARCHAR(20) NOT NULL UNIQUE, password VARCHAR(100) NOT NULL)");
+        }
+        for (int i = 0; i < preloadedRows; i += BATCH_SIZE) {
+            randomTextIds();
+            uuidV7BinaryIds();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void randomTextIds() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users_text_id (id, name, login, password) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                insert.setString(1, UUID.randomUUID().toString());
+                bindUser(insert);
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void uuidV7BinaryIds() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users_binary_id (id, name, login, password) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                insert.setBytes(1, UserIds.toBytes(uuidV7.next()));
+                bindUser(insert);
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void bindUser(PreparedStatement insert) throws SQLException {
+        long n = sequence++;
+        insert.setString(2, "Benchmark User " + n);
+        insert.setString(3, "u" + n);
+        insert.setString(4, "$2a$10$abcdefghijklmnopqrstuuN8zJ0xq3y8cLqk1Lh2m6XkF2m3b4c5d6");
+        insert.addBatch();
+    }
+}
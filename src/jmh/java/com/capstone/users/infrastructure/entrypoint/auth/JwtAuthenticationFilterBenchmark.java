@@ -0,0 +1,91 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the JwtAuthenticationFilter for one login request, with the filter skipping the public routes
+ * through shouldNotFilter against the filter running on them as it used to.
+ * <p>
+ * The "withToken" case sends a stale Bearer token with the login, which the old behavior verified on every request.
+ * Principals are resolved from the token claims, so no database is involved.
+ * <p>
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String SECRET_KEY = "VGhpcyBpcyBhIHZhbGlkIHNlY3JldCBrZXkgZm9yIEpXVCBzaWduaW5nIHdpdGggSFMyNTYhISEh";
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+  @Param({"false", "true"})
+  public boolean withToken;
+
+  private JwtAuthenticationFilter skippingFilter;
+  private JwtAuthenticationFilter filteringFilter;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setup() {
+    JwtProperties properties = new JwtProperties();
+    properties.setActiveKeyId("default");
+    properties.setKeys(Map.of("default", SECRET_KEY));
+    properties.setPrincipalMode(JwtProperties.PrincipalMode.STATELESS);
+    JwtService jwtService = new JwtService(new JwtKeyRing(properties));
+    PrincipalResolver principalResolver = new PrincipalResolver(null, properties);
+    VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(false, 0, new SimpleMeterRegistry());
+
+    skippingFilter = new JwtAuthenticationFilter(jwtService, principalResolver, verifiedTokenCache);
+    filteringFilter = new JwtAuthenticationFilter(jwtService, principalResolver, verifiedTokenCache) {
+      @Override
+      protected boolean shouldNotFilter(HttpServletRequest request) {
+        return false;
+      }
+    };
+
+    request = new MockHttpServletRequest("POST", "/api/v1/users/auth/login");
+    request.setServletPath("/api/v1/users/auth/login");
+    if (withToken) {
+      String token = jwtService.getUserToken(UserAuth.builder().id("id").name("benchmark").login("benchmark").build());
+      request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+  }
+
+  @Benchmark
+  public MockHttpServletResponse skippedByShouldNotFilter() throws ServletException, IOException {
+    return run(skippingFilter);
+  }
+
+  @Benchmark
+  public MockHttpServletResponse filteredAsBefore() throws ServletException, IOException {
+    return run(filteringFilter);
+  }
+
+  private MockHttpServletResponse run(JwtAuthenticationFilter filter) throws ServletException, IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, NO_OP_CHAIN);
+    SecurityContextHolder.clearContext();
+    return response;
+  }
+}
@@ -0,0 +1,60 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares verifying a token the way JwtService used to (decoding the secret and building a parser on every call)
+ * against the shared key ring and parser.
+ * <p>
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtServiceBenchmark {
+
+  private static final String SECRET_KEY = "VGhpcyBpcyBhIHZhbGlkIHNlY3JldCBrZXkgZm9yIEpXVCBzaWduaW5nIHdpdGggSFMyNTYhISEh";
+
+  private JwtService jwtService;
+  private String token;
+
+  @Setup
+  public void setup() {
+    JwtProperties properties = new JwtProperties();
+    properties.setActiveKeyId("default");
+    properties.setKeys(Map.of("default", SECRET_KEY));
+    jwtService = new JwtService(new JwtKeyRing(properties));
+    token = jwtService.getToken(UserAuth.builder().login("benchmark").build());
+  }
+
+  @Benchmark
+  public Claims perCallKeyAndParser() {
+    Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    return Jwts
+        .parserBuilder()
+        .setSigningKey(key)
+        .build()
+        .parseClaimsJws(token)
+        .getBody();
+  }
+
+  @Benchmark
+  public VerifiedToken sharedKeyAndParser() {
+    return jwtService.verify(token);
+  }
+}
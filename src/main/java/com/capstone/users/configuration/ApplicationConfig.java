@@ -1,10 +1,16 @@
 package com.capstone.users.configuration;
 
 import com.capstone.users.domain.service.UserService;
+import com.capstone.users.infrastructure.entrypoint.auth.BoundedPasswordEncoder;
+import com.capstone.users.infrastructure.entrypoint.auth.CachingUserDetailsService;
 import com.capstone.users.infrastructure.entrypoint.auth.UserAuth;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -14,8 +20,12 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
+@Profile("!reactive")
 @RequiredArgsConstructor
+@EnableConfigurationProperties(JwtProperties.class)
 public class ApplicationConfig {
 
   private final UserService userService;
@@ -35,36 +45,52 @@ public class ApplicationConfig {
   /**
    * Creates and configures an instance of the DaoAuthenticationProvider bean.
    *
+   * @param  userDetailsService  the service used to load users by login
+   * @param  passwordEncoder     the encoder used to verify passwords
    * @return an instance of the DaoAuthenticationProvider bean
    */
   @Bean
-  public AuthenticationProvider authenticationProvider() {
+  public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                       PasswordEncoder passwordEncoder) {
     DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
-    authenticationProvider.setUserDetailsService(userDetailService());
-    authenticationProvider.setPasswordEncoder(passwordEncoder());
+    authenticationProvider.setUserDetailsService(userDetailsService);
+    authenticationProvider.setPasswordEncoder(passwordEncoder);
     return authenticationProvider;
   }
 
   /**
-   * Returns a new instance of the BCryptPasswordEncoder bean.
+   * Returns a BCryptPasswordEncoder that runs on a dedicated, bounded thread pool instead of the request threads.
    *
-   * @return a new instance of the BCryptPasswordEncoder bean
+   * @param  threads        the number of hashing threads, or 0 to use one per available processor
+   * @param  queueCapacity  the number of hashing tasks that may wait for a thread before requests are rejected
+   * @param  meterRegistry  the registry the pool metrics are published to
+   * @return a BCrypt password encoder backed by the hashing pool
    */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public BoundedPasswordEncoder passwordEncoder(@Value("${users.password-hashing.threads:0}") int threads,
+                                                @Value("${users.password-hashing.queue-capacity:64}") int queueCapacity,
+                                                MeterRegistry meterRegistry) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, meterRegistry);
   }
 
   /**
    * Returns a UserDetailsService bean that retrieves user details by username.
+   * When "users.user-details-cache.enabled" is true, the lookup is wrapped in a bounded cache keyed by login
+   * that the UserService invalidates on every update and delete.
    *
-   * @param  username  the username of the user to retrieve details for
-   * @return           a UserDetails object representing the user, or throws a UsernameNotFoundException if the user is not found
-   * @throws UsernameNotFoundException if the user is not found
+   * @param  cacheEnabled   whether loaded users are cached
+   * @param  cacheMaxSize   the maximum number of cached users
+   * @param  cacheTtl       how long a cached user is kept after it was loaded
+   * @param  meterRegistry  the registry the cache metrics are published to
+   * @return                a UserDetailsService that throws a UsernameNotFoundException if the user is not found
    */
   @Bean
-  public UserDetailsService userDetailService() {
-    return username ->
+  public UserDetailsService userDetailService(@Value("${users.user-details-cache.enabled:false}") boolean cacheEnabled,
+                                              @Value("${users.user-details-cache.max-size:10000}") long cacheMaxSize,
+                                              @Value("${users.user-details-cache.ttl:5m}") Duration cacheTtl,
+                                              MeterRegistry meterRegistry) {
+    UserDetailsService userDetailsService = username ->
         userService.findByLogin(username)
             .map(user -> UserAuth.builder()
                 .id(user.getId())
@@ -73,6 +99,10 @@ public class ApplicationConfig {
                 .password(user.getPassword())
                 .build())
             .orElseThrow(() -> new UsernameNotFoundException("not found"));
+    if (!cacheEnabled) {
+      return userDetailsService;
+    }
+    return new CachingUserDetailsService(userDetailsService, cacheMaxSize, cacheTtl, meterRegistry);
   }
 
 }
@@ -0,0 +1,73 @@
+package com.capstone.users.configuration;
+
+import com.capstone.users.infrastructure.drivenadapter.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single auto-configured DataSource with one that sends read-only transactions to read replicas
+ * when "users.datasource.routing.enabled" is true.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "users.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+  /**
+   * Returns the routing DataSource over the primary ("spring.datasource.*") and every configured replica.
+   *
+   * @param  primaryProperties  the settings of the primary database
+   * @param  routingProperties  the settings of the replicas
+   * @return                    the routing DataSource, which closes its pools on shutdown
+   * @throws IllegalStateException if routing is enabled without any replica
+   */
+  @Bean
+  public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties primaryProperties,
+                                                      DataSourceRoutingProperties routingProperties) {
+    if (routingProperties.getReplicas().isEmpty()) {
+      throw new IllegalStateException("users.datasource.routing.enabled is true but no replica is configured");
+    }
+    HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    primary.setPoolName("primary");
+    List<DataSource> replicas = new ArrayList<>();
+    for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+      HikariDataSource dataSource = DataSourceBuilder.create()
+          .type(HikariDataSource.class)
+          .url(replica.getUrl())
+          .username(replica.getUsername())
+          .password(replica.getPassword())
+          .build();
+      dataSource.setPoolName("replica-" + replicas.size());
+      dataSource.setReadOnly(true);
+      replicas.add(dataSource);
+    }
+    return new ReadWriteRoutingDataSource(primary, replicas);
+  }
+
+  /**
+   * Returns the DataSource used by JPA and JDBC.
+   * Connections are only fetched from the routing DataSource when the first statement runs, after the transaction
+   * has declared whether it is read-only, so the route is chosen with that information.
+   *
+   * @param  routingDataSource  the routing DataSource
+   * @return                    a lazy proxy over the routing DataSource
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+}
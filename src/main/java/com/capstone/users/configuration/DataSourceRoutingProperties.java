@@ -0,0 +1,32 @@
+package com.capstone.users.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The DataSourceRoutingProperties class binds the "users.datasource.routing.*" settings from application.properties.
+ * <p>
+ * Fields:
+ * - enabled: Whether read-only transactions are sent to the replicas. The primary is always "spring.datasource.*".
+ * - replicas: The connection settings of each read replica; reads are spread over them round-robin.
+ * - readYourWritesWindow: For how long after a user is created, updated or deleted its reads go to the primary,
+ *   so a client reading its own write does not hit a replica that has not applied it yet.
+ */
+@Data
+@ConfigurationProperties(prefix = "users.datasource.routing")
+public class DataSourceRoutingProperties {
+  private boolean enabled;
+  private List<Replica> replicas = new ArrayList<>();
+  private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+  @Data
+  public static class Replica {
+    private String url;
+    private String username;
+    private String password;
+  }
+}
@@ -0,0 +1,39 @@
+package com.capstone.users.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The JwtProperties class binds the "jwt.*" settings from application.properties.
+ * <p>
+ * Fields:
+ * - activeKeyId: The id (kid) of the key used to sign new tokens.
+ * - keys: The Base64-encoded HMAC secrets indexed by key id. Every key listed here is accepted when verifying tokens.
+ * - keysFile: Optional path of a properties file holding "jwt.active-key-id" and "jwt.keys.*" entries. When set, its
+ *   keys are used instead of the two settings above, and it is read again each time the keys are reloaded.
+ * - principalMode: How the authenticated user is built for each request, either loaded from the database or read
+ *   from the signed token claims.
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+  private String activeKeyId;
+  private Map<String, String> keys = new HashMap<>();
+  private String keysFile;
+  private PrincipalMode principalMode = PrincipalMode.DATABASE;
+
+  public enum PrincipalMode {
+    /**
+     * Loads the user from the database on every authenticated request, so changes and deletions apply immediately.
+     */
+    DATABASE,
+    /**
+     * Builds the user from the id, name and login claims of the token without touching the database.
+     * A renamed or deleted user keeps the identity stored in tokens issued before the change until they expire.
+     */
+    STATELESS
+  }
+}
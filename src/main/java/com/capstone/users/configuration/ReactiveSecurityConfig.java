@@ -0,0 +1,76 @@
+package com.capstone.users.configuration;
+
+import com.capstone.users.domain.exceptions.userExceptions.AuthFailedException;
+import com.capstone.users.infrastructure.entrypoint.auth.JwtAuthenticationFilter;
+import com.capstone.users.infrastructure.entrypoint.auth.ReactiveAuthService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.NegatedServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import reactor.core.publisher.Mono;
+
+/**
+ * The ReactiveSecurityConfig class secures the WebFlux endpoints of the "reactive" profile.
+ * <p>
+ * It mirrors SecurityConfig: the same public paths are open and skip token handling, every other request needs a
+ * valid Bearer token, and no session is kept. Tokens are checked by the {@link ReactiveAuthService}, so
+ * authentication does not block an event-loop thread.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@Profile("reactive")
+public class ReactiveSecurityConfig {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  @Bean
+  public ReactiveAuthenticationManager jwtAuthenticationManager(ReactiveAuthService reactiveAuthService) {
+    return authentication -> reactiveAuthService.authenticate((String) authentication.getCredentials())
+        .<Authentication>map(userAuth ->
+            UsernamePasswordAuthenticationToken.authenticated(userAuth, null, userAuth.getAuthorities()))
+        .onErrorMap(AuthFailedException.class, e -> new BadCredentialsException(e.getMessage()));
+  }
+
+  @Bean
+  public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                       ReactiveAuthenticationManager jwtAuthenticationManager) {
+    HttpStatusServerEntryPoint unauthorized = new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED);
+
+    AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(jwtAuthenticationManager);
+    jwtFilter.setServerAuthenticationConverter(exchange -> Mono
+        .justOrEmpty(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+        .filter(header -> header.startsWith(BEARER_PREFIX))
+        .map(header -> header.substring(BEARER_PREFIX.length()))
+        .map(token -> UsernamePasswordAuthenticationToken.unauthenticated(token, token)));
+    jwtFilter.setRequiresAuthenticationMatcher(new NegatedServerWebExchangeMatcher(
+        ServerWebExchangeMatchers.pathMatchers(JwtAuthenticationFilter.PUBLIC_PATHS)));
+    jwtFilter.setAuthenticationFailureHandler(new ServerAuthenticationEntryPointFailureHandler(unauthorized));
+
+    return http
+        .csrf(ServerHttpSecurity.CsrfSpec::disable)
+        .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+        .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+        .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+        .authorizeExchange(exchanges -> exchanges
+            .pathMatchers(JwtAuthenticationFilter.PUBLIC_PATHS).permitAll()
+            .anyExchange().authenticated())
+        .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(unauthorized))
+        .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+        .build();
+  }
+}
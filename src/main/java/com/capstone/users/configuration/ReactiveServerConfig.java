@@ -0,0 +1,27 @@
+package com.capstone.users.configuration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * The ReactiveServerConfig class sets up the web server of the "reactive" profile.
+ * <p>
+ * The servlet deployment keeps Tomcat on the classpath, and Spring Boot prefers Tomcat over Netty when it picks a
+ * reactive server on its own, which would run the WebFlux handlers behind a servlet adapter. Declaring the Netty
+ * factory here makes the auto-configured factories back off, so the reactive profile is served by Reactor Netty.
+ * <p>
+ * ApplicationConfig is not loaded in this profile, so the "jwt.*" settings are bound here as well.
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(JwtProperties.class)
+public class ReactiveServerConfig {
+
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+}
@@ -1,34 +1,111 @@
 package com.capstone.users.configuration;
 
 import com.capstone.users.infrastructure.entrypoint.auth.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.DelegatingAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
+import java.util.LinkedHashMap;
+
+/**
+ * The SecurityConfig class secures the servlet endpoints: public routes are open, every other request needs a valid
+ * Bearer token, and no session is kept.
+ * <p>
+ * Actuator endpoints have their own chain. Health is open; every other endpoint, such as metrics and the JWT key
+ * reload, needs the HTTP Basic credentials of the operator account set by "users.management.username" and
+ * "users.management.password". Requests with a user's Bearer token are refused with 403, so a self-registered
+ * account cannot read metrics or rotate keys. Without an operator account these endpoints are closed to everyone.
+ * <p>
+ * ASYNC and ERROR dispatches are permitted. They continue a request that was already authorized on its first
+ * dispatch, such as the streaming user export, but run without a SecurityContext since none is stored in a session.
+ */
 @Configuration
 @EnableWebSecurity
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+  private static final String MANAGEMENT_ROLE = "ACTUATOR";
+
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
   private final AuthenticationProvider authProvider;
 
+    /**
+     * Keeps the JWT filter out of the servlet filter chain, so it only runs inside the security chain it is added to
+     * and does not mark token-less requests to the actuator endpoints as unauthorized.
+     *
+     * @param  filter  the JWT authentication filter
+     * @return         a disabled registration of the filter
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
+    @Order(1)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http,
+                                                     @Value("${users.management.username:}") String username,
+                                                     @Value("${users.management.password:}") String password) throws Exception {
+        return http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(authRequest ->
+                        authRequest
+                            .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                            .anyRequest().hasRole(MANAGEMENT_ROLE)
+                )
+                .sessionManagement(sessionManager ->
+                    sessionManager
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authenticationManager(operatorAuthenticationManager(username, password))
+                .exceptionHandling(exceptions ->
+                    exceptions
+                        .authenticationEntryPoint(operatorEntryPoint()))
+                .httpBasic(Customizer.withDefaults())
+                .build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authRequest ->
                         authRequest
-                            .requestMatchers("api/v1/users/auth/**",  "/swagger-ui/**",
-                                "/swagger-ui.html", "/v3/api-docs/**").permitAll()
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                            .requestMatchers(JwtAuthenticationFilter.PUBLIC_ROUTES).permitAll()
                             .anyRequest().authenticated()
                 )
                 .sessionManagement(sessionManager ->
@@ -39,4 +116,49 @@ public class SecurityConfig {
                 .formLogin(Customizer.withDefaults())
                 .build();
     }
+
+  /**
+   * Returns the entry point of the actuator chain: a request with a user's Bearer token is refused with 403, and any
+   * other unauthenticated request is asked for the operator's HTTP Basic credentials with 401.
+   *
+   * @return  the entry point used when an actuator request is not authenticated
+   */
+  private static AuthenticationEntryPoint operatorEntryPoint() {
+    BasicAuthenticationEntryPoint basic = new BasicAuthenticationEntryPoint();
+    basic.setRealmName("actuator");
+    LinkedHashMap<RequestMatcher, AuthenticationEntryPoint> entryPoints = new LinkedHashMap<>();
+    entryPoints.put(SecurityConfig::hasBearerToken, new HttpStatusEntryPoint(HttpStatus.FORBIDDEN));
+    DelegatingAuthenticationEntryPoint entryPoint = new DelegatingAuthenticationEntryPoint(entryPoints);
+    entryPoint.setDefaultEntryPoint(basic);
+    return entryPoint;
+  }
+
+  /**
+   * Tells whether a request carries a Bearer token, which identifies a user rather than the operator.
+   *
+   * @param  request  the HTTP servlet request
+   * @return          true if the Authorization header holds a Bearer token
+   */
+  private static boolean hasBearerToken(HttpServletRequest request) {
+    String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+    return authorization != null && authorization.startsWith("Bearer ");
+  }
+
+  /**
+   * Returns the authentication manager of the actuator chain, which only knows the operator account.
+   *
+   * @param  username  the operator's username, or blank for no operator
+   * @param  password  the operator's password in encoded form, such as "{bcrypt}..." or "{noop}..."
+   * @return           an authentication manager granting the management role to the operator
+   */
+  private static AuthenticationManager operatorAuthenticationManager(String username, String password) {
+    InMemoryUserDetailsManager operators = new InMemoryUserDetailsManager();
+    if (!username.isBlank() && !password.isBlank()) {
+      operators.createUser(User.withUsername(username).password(password).roles(MANAGEMENT_ROLE).build());
+    }
+    DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+    provider.setUserDetailsService(operators);
+    provider.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+    return new ProviderManager(provider);
+  }
 }
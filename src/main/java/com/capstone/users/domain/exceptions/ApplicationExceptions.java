@@ -1,6 +1,9 @@
 package com.capstone.users.domain.exceptions;
 
 import com.capstone.users.domain.exceptions.userExceptions.AuthFailedException;
+import com.capstone.users.domain.exceptions.userExceptions.InvalidCursorException;
+import com.capstone.users.domain.exceptions.userExceptions.InvalidImportFileException;
+import com.capstone.users.domain.exceptions.userExceptions.TooManyIdsException;
 import com.capstone.users.domain.exceptions.userExceptions.UserAlreadyExistsException;
 import com.capstone.users.domain.exceptions.userExceptions.UserEmptyDataException;
 import com.capstone.users.domain.exceptions.userExceptions.UserNotFoundException;
@@ -45,6 +48,25 @@ public class ApplicationExceptions {
     public static void authFailedException(){throw new AuthFailedException();}
 
 
+    /**
+     * Throws an InvalidCursorException when a page cursor cannot be decoded.
+     */
+    public static void invalidCursorException(){throw new InvalidCursorException();}
+
+    /**
+     * Throws an InvalidImportFileException when a bulk import file cannot be parsed.
+     *
+     * @param message A message describing where and why the file could not be parsed.
+     */
+    public static void invalidImportFileException(String message){throw new InvalidImportFileException(message);}
+
+    /**
+     * Throws a TooManyIdsException when a batch lookup asks for more ids than allowed.
+     *
+     * @param max The maximum number of ids per request.
+     */
+    public static void tooManyIdsException(int max){throw new TooManyIdsException(max);}
+
     /**
      * Throws an IllegalArgumentException when the user ID is null.
      *
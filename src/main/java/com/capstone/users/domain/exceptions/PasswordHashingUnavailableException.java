@@ -0,0 +1,17 @@
+package com.capstone.users.domain.exceptions;
+
+/**
+ * PasswordHashingUnavailableException is a custom runtime exception that is thrown when a password cannot be hashed or
+ * verified because the password hashing pool is saturated.
+ * <p>
+ * This class extends RuntimeException and provides a custom error message asking the client to retry later.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private static final String MESSAGE = "Password hashing is temporarily unavailable, please retry later";
+
+    public PasswordHashingUnavailableException() {
+        super(MESSAGE);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.capstone.users.domain.exceptions;
+
+import lombok.Getter;
+
+/**
+ * TooManyLoginAttemptsException is a custom runtime exception that is thrown when a client sends more auth requests
+ * than its rate limit allows.
+ * <p>
+ * It carries the number of seconds after which the client may retry. It is raised on the request path of a throttled
+ * client, so it is created without a stack trace.
+ */
+@Getter
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private static final String MESSAGE = "Too many attempts, please retry later";
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super(MESSAGE, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
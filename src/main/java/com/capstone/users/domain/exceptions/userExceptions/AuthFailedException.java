@@ -1,9 +1,14 @@
 package com.capstone.users.domain.exceptions.userExceptions;
 
+/**
+ * Thrown when a login or token is rejected.
+ * <p>
+ * It is raised for every failed login attempt, so it is created without a stack trace.
+ */
 public class AuthFailedException extends RuntimeException {
   private static final String MESSAGE = "Invalid credentials";
 
   public AuthFailedException() {
-    super(MESSAGE);
+    super(MESSAGE, null, false, false);
   }
 }
@@ -0,0 +1,10 @@
+package com.capstone.users.domain.exceptions.userExceptions;
+
+public class InvalidCursorException extends RuntimeException {
+
+    private static final String MESSAGE = "The page cursor is not valid";
+
+    public InvalidCursorException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,7 @@
+package com.capstone.users.domain.exceptions.userExceptions;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
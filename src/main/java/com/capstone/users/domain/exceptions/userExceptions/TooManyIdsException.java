@@ -0,0 +1,7 @@
+package com.capstone.users.domain.exceptions.userExceptions;
+
+public class TooManyIdsException extends RuntimeException {
+    public TooManyIdsException(int max) {
+        super("At most " + max + " ids can be requested at once");
+    }
+}
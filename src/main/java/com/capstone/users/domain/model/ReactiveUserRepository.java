@@ -0,0 +1,22 @@
+package com.capstone.users.domain.model;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * The ReactiveUserRepository interface is the non-blocking counterpart of the read side of {@link UserRepository}.
+ * Each method mirrors the UserRepository method of the same name, but completes asynchronously instead of blocking
+ * the calling thread, so it can be served from an event loop.
+ * <p>
+ * As in UserRepository, only {@link #findByLogin(String)} returns the full {@link User} with its password.
+ * Empty results complete without a value instead of returning an empty Optional.
+ */
+public interface ReactiveUserRepository {
+    Mono<User> findByLogin(String login);
+    Mono<UserSummary> findById(String id);
+    Flux<UserSummary> findAllByIds(Collection<String> ids);
+    Flux<UserSummary> findAll();
+    Flux<UserSummary> findPage(String afterId, int limit);
+}
@@ -0,0 +1,23 @@
+package com.capstone.users.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The UserBatch class represents the result of looking up several users by id at once.
+ * <p>
+ * Fields:
+ * - users: The users that were found, keyed by id, in the order the ids were requested.
+ * - notFound: The requested ids that do not belong to any user.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class UserBatch {
+    private Map<String, UserSummary> users;
+    private List<String> notFound;
+}
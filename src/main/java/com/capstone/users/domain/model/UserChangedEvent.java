@@ -0,0 +1,19 @@
+package com.capstone.users.domain.model;
+
+import lombok.Value;
+
+/**
+ * The UserChangedEvent class signals that a stored user was updated or deleted.
+ * It is published synchronously by the UserService, so listeners that cache user data can drop stale entries
+ * before the write returns to the caller.
+ * <p>
+ * Fields:
+ * - id: Unique identifier of the changed user.
+ * - login: A login the user is or was known by, or null if it is not known. Listeners must also match
+ *   entries by id, since the login the user had before an update is not read.
+ */
+@Value
+public class UserChangedEvent {
+    String id;
+    String login;
+}
@@ -0,0 +1,17 @@
+package com.capstone.users.domain.model;
+
+import lombok.Value;
+
+/**
+ * The UserCreatedEvent class signals that a new user was stored.
+ * It is published synchronously by the UserService once the user is saved.
+ * <p>
+ * Fields:
+ * - id: Unique identifier of the new user.
+ * - login: Login of the new user.
+ */
+@Value
+public class UserCreatedEvent {
+    String id;
+    String login;
+}
@@ -0,0 +1,9 @@
+package com.capstone.users.domain.model;
+
+/**
+ * The UserIdGenerator interface defines how the unique identifier of a new user is created.
+ * Implementations must return the canonical String form of a UUID, which is how ids are exposed by the API.
+ */
+public interface UserIdGenerator {
+    String nextId();
+}
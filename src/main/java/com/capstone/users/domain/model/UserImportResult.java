@@ -0,0 +1,44 @@
+package com.capstone.users.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The UserImportResult class reports what happened to one row of a bulk user import.
+ * <p>
+ * Fields:
+ * - row: The 1-based line of the row in the imported file, counting the CSV header and blank lines.
+ * - login: The login found in the row.
+ * - status: Whether the user was created, or why it was not.
+ * - id: The id assigned to the created user, or null if it was not created.
+ * - message: A description of the problem when the user was not created.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class UserImportResult {
+    private int row;
+    private String login;
+    private Status status;
+    private String id;
+    private String message;
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE
+    }
+
+    public static UserImportResult created(int row, User user) {
+        return new UserImportResult(row, user.getLogin(), Status.CREATED, user.getId(), null);
+    }
+
+    public static UserImportResult invalid(int row, String login, String message) {
+        return new UserImportResult(row, login, Status.INVALID, null, message);
+    }
+
+    public static UserImportResult duplicate(int row, String login) {
+        return new UserImportResult(row, login, Status.DUPLICATE, null, "User already exists");
+    }
+}
@@ -0,0 +1,22 @@
+package com.capstone.users.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * The UserPage class represents one page of users ordered by id.
+ * <p>
+ * Fields:
+ * - users: The users of the page, at most the requested limit.
+ * - nextCursor: An opaque token that requests the next page, or null if this is the last page.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class UserPage {
+    private List<UserSummary> users;
+    private String nextCursor;
+}
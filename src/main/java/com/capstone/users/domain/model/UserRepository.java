@@ -1,17 +1,29 @@
 package com.capstone.users.domain.model;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The UserRepository interface defines the contract for how user-related operations will be handled in the persistence layer.
  * It abstracts the data access logic from the domain, ensuring that the domain remains framework and infrastructure-agnostic.
+ * <p>
+ * Only {@link #findByLogin(String)}, used to authenticate, returns the full {@link User} with its password;
+ * every other read returns a {@link UserSummary} and never loads the password column.
  */
 public interface UserRepository {
     User save(User user);
+    List<User> saveAll(List<User> users);
+    Set<String> findExistingLogins(Collection<String> logins);
     Optional<User> findByLogin(String login);
     User update(User user);
-    Optional<User> findById(String id);
-    List<User> findAll();
-    void deleteById(String id);
+    boolean replacePassword(String id, String currentPassword, String newPassword);
+    Optional<UserSummary> findById(String id);
+    List<UserSummary> findAllByIds(Collection<String> ids);
+    List<UserSummary> findAll();
+    List<UserSummary> findPage(String afterId, int limit);
+    void streamAll(Consumer<UserSummary> consumer);
+    int deleteById(String id);
 }
@@ -0,0 +1,23 @@
+package com.capstone.users.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The UserSummary class is the public, read-only view of a user.
+ * It carries everything needed to identify and display a user but never the password.
+ * <p>
+ * Fields:
+ * - id: Unique identifier for the user.
+ * - name: Name of the user.
+ * - login: User's login credential.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class UserSummary {
+    private String id;
+    private String name;
+    private String login;
+}
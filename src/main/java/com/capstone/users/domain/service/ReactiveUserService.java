@@ -0,0 +1,95 @@
+package com.capstone.users.domain.service;
+
+import com.capstone.users.domain.exceptions.userExceptions.InvalidCursorException;
+import com.capstone.users.domain.exceptions.userExceptions.TooManyIdsException;
+import com.capstone.users.domain.exceptions.userExceptions.UserNotFoundException;
+import com.capstone.users.domain.model.ReactiveUserRepository;
+import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserBatch;
+import com.capstone.users.domain.model.UserPage;
+import com.capstone.users.domain.model.UserSummary;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The ReactiveUserService class provides the read use cases of the {@link UserService} without blocking.
+ * <p>
+ * It applies the same rules as UserService (batch limits, page sizes and cursors are shared with it) on top of the
+ * {@link ReactiveUserRepository}, and is only active with the "reactive" profile.
+ */
+@AllArgsConstructor
+@Service
+@Profile("reactive")
+public class ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+
+    /**
+     * Finds a user by their login.
+     *
+     * @param login Is the Login of the user to find.
+     * @return The user, or an empty Mono if the user does not exist.
+     */
+    public Mono<User> findByLogin(String login) {
+        return userRepository.findByLogin(login);
+    }
+
+    /**
+     * Finds a user by their ID.
+     *
+     * @param id The ID of the user to find.
+     * @return The user, without its password.
+     * @throws UserNotFoundException If the user does not exist, as an error signal.
+     */
+    public Mono<UserSummary> findById(String id) {
+        return userRepository.findById(id).switchIfEmpty(Mono.error(UserNotFoundException::new));
+    }
+
+    /**
+     * Finds several users by id with a single repository call.
+     *
+     * Repeated and empty ids are ignored. At most {@link UserService#MAX_BATCH_IDS} distinct ids can be requested at once.
+     *
+     * @param ids The ids of the users to find.
+     * @return The users found, keyed by id in request order, and the ids that do not exist.
+     * @throws TooManyIdsException If more than {@link UserService#MAX_BATCH_IDS} distinct ids are requested, as an error signal.
+     */
+    public Mono<UserBatch> findAllByIds(Collection<String> ids) {
+        return Mono.fromCallable(() -> UserService.requestedIds(ids))
+                .flatMap(requested -> requested.isEmpty()
+                        ? Mono.just(new UserBatch(Map.of(), List.of()))
+                        : userRepository.findAllByIds(requested).collectList().map(users -> UserService.toBatch(requested, users)));
+    }
+
+    /**
+     * Retrieves all users, without their passwords, as they are read from the repository.
+     *
+     * @return The users in id order.
+     */
+    public Flux<UserSummary> findAll() {
+        return userRepository.findAll();
+    }
+
+    /**
+     * Retrieves one page of users ordered by id.
+     *
+     * @param cursor The cursor of the page to read, or null for the first page.
+     * @param limit  The requested page size, or null for {@link UserService#DEFAULT_PAGE_SIZE}.
+     * @return The page of users and the cursor of the next page, if there is one.
+     * @throws InvalidCursorException If the cursor cannot be decoded, as an error signal.
+     */
+    public Mono<UserPage> findPage(String cursor, Integer limit) {
+        int pageSize = UserService.pageSize(limit);
+        return Mono.fromCallable(() -> Optional.ofNullable(UserService.afterId(cursor)))
+                .flatMap(afterId -> userRepository.findPage(afterId.orElse(null), pageSize + 1).collectList())
+                .map(users -> UserService.toPage(users, pageSize));
+    }
+}
@@ -1,19 +1,42 @@
 package com.capstone.users.domain.service;
 
 import com.capstone.users.domain.exceptions.ApplicationExceptions;
-import com.capstone.users.domain.exceptions.CustomersNotFoundException;
+import com.capstone.users.domain.exceptions.userExceptions.InvalidCursorException;
+import com.capstone.users.domain.exceptions.userExceptions.TooManyIdsException;
 import com.capstone.users.domain.exceptions.userExceptions.UserAlreadyExistsException;
 import com.capstone.users.domain.exceptions.userExceptions.UserEmptyDataException;
 import com.capstone.users.domain.exceptions.userExceptions.UserNotFoundException;
 import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserBatch;
+import com.capstone.users.domain.model.UserChangedEvent;
+import com.capstone.users.domain.model.UserCreatedEvent;
+import com.capstone.users.domain.model.UserIdGenerator;
+import com.capstone.users.domain.model.UserImportResult;
+import com.capstone.users.domain.model.UserPage;
 import com.capstone.users.domain.model.UserRepository;
+import com.capstone.users.domain.model.UserSummary;
 import com.capstone.users.utils.StringUtils;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * The UserService class provides core business logic related to the User entity.
@@ -23,11 +46,21 @@ import java.util.UUID;
  */
 @AllArgsConstructor
 @Service
+@Profile("!reactive")
 public class UserService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_IDS = 200;
+
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserIdGenerator userIdGenerator;
     /**
      * Finds a user by their login.
      *
+     * No transaction is opened here: the repository opens its own read-only one, so concurrent lookups of the same
+     * login that the repository coalesces wait for the shared query without holding a connection each.
+     *
      * @param login Is the Login of the user to find.
      * @return An Optional containing the User if found, or empty if the user does not exist.
      */
@@ -38,13 +71,75 @@ public class UserService {
     /**
      * Finds a user by their ID.
      *
+     * As in {@link #findByLogin(String)}, the transaction is opened by the repository, below any coalescing.
+     *
      * @param id The ID of the user to find.
-     * @return An Optional containing the User if found, or an empty Optional if the user does not exist.
+     * @return The user, without its password.
+     * @throws UserNotFoundException If the user does not exist.
      */
-    public User findById(String id) {
+    public UserSummary findById(String id) {
         return userRepository.findById(id).orElseThrow(UserNotFoundException::new);
     }
 
+    /**
+     * Finds several users by id with a single repository call.
+     *
+     * Repeated and empty ids are ignored. At most {@link #MAX_BATCH_IDS} distinct ids can be requested at once.
+     *
+     * @param ids The ids of the users to find.
+     * @return The users found, keyed by id in request order, and the ids that do not exist.
+     * @throws TooManyIdsException If more than {@link #MAX_BATCH_IDS} distinct ids are requested.
+     */
+    @Transactional(readOnly = true)
+    public UserBatch findAllByIds(Collection<String> ids) {
+        Set<String> requested = requestedIds(ids);
+        if (requested.isEmpty()) {
+            return new UserBatch(Map.of(), List.of());
+        }
+        return toBatch(requested, userRepository.findAllByIds(requested));
+    }
+
+    /**
+     * Returns the distinct, non-empty ids of a batch lookup, in request order.
+     *
+     * @param ids The requested ids, possibly null.
+     * @return The ids to look up.
+     * @throws TooManyIdsException If more than {@link #MAX_BATCH_IDS} distinct ids are requested.
+     */
+    static Set<String> requestedIds(Collection<String> ids) {
+        Set<String> requested = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(id -> !StringUtils.isNullOrEmpty(id)).forEach(requested::add);
+        }
+        if (requested.size() > MAX_BATCH_IDS) {
+            ApplicationExceptions.tooManyIdsException(MAX_BATCH_IDS);
+        }
+        return requested;
+    }
+
+    /**
+     * Arranges the users found by a batch lookup in request order and lists the ids that were not found.
+     *
+     * @param requested The ids that were looked up, in request order.
+     * @param users     The users found, in any order.
+     * @return The batch result.
+     */
+    static UserBatch toBatch(Set<String> requested, Collection<UserSummary> users) {
+        Map<String, UserSummary> found = new HashMap<>();
+        users.forEach(user -> found.put(user.getId(), user));
+        Map<String, UserSummary> batch = new LinkedHashMap<>();
+        List<String> notFound = new ArrayList<>();
+        for (String id : requested) {
+            UserSummary user = found.get(id);
+            if (user != null) {
+                batch.put(id, user);
+            } else {
+                notFound.add(id);
+            }
+        }
+        return new UserBatch(batch, notFound);
+    }
+
   /**
    * Retrieves all users from the repository.
    *
@@ -52,15 +147,80 @@ public class UserService {
    * stored in the system. It does not apply any filters or pagination, returning the full list
    * of users as provided by the persistence layer.
    *
-   * @return A List of User objects representing all users in the repository.
+   * @return A List of UserSummary objects, without passwords, representing all users in the repository.
    */
-    public List<User> findAll(){
+    @Transactional(readOnly = true)
+    public List<UserSummary> findAll(){
       return  userRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of users ordered by id.
+     *
+     * The cursor is the opaque token returned as nextCursor by the previous page. The limit is bounded by
+     * {@link #MAX_PAGE_SIZE}, so the memory used per request does not depend on the size of the table.
+     *
+     * @param cursor The cursor of the page to read, or null for the first page.
+     * @param limit  The requested page size, or null for {@link #DEFAULT_PAGE_SIZE}.
+     * @return The page of users and the cursor of the next page, if there is one.
+     * @throws InvalidCursorException If the cursor cannot be decoded.
+     */
+    @Transactional(readOnly = true)
+    public UserPage findPage(String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        return toPage(userRepository.findPage(afterId(cursor), pageSize + 1), pageSize);
+    }
+
+    /**
+     * Returns the page size to read for a requested limit, bounded by {@link #MAX_PAGE_SIZE}.
+     *
+     * @param limit The requested page size, or null for {@link #DEFAULT_PAGE_SIZE}.
+     * @return The page size.
+     */
+    static int pageSize(Integer limit) {
+        return limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Decodes a page cursor into the id the page starts after.
+     *
+     * @param cursor The cursor of the page to read, or null for the first page.
+     * @return The id to read after, or null for the first page.
+     * @throws InvalidCursorException If the cursor cannot be decoded.
+     */
+    static String afterId(String cursor) {
+        return StringUtils.isNullOrEmpty(cursor) ? null : decodeCursor(cursor);
+    }
+
+    /**
+     * Builds a page from the users read with one extra row, which only tells whether a next page exists.
+     *
+     * @param users    Up to pageSize + 1 users in id order.
+     * @param pageSize The page size.
+     * @return The page and the cursor of the next page, if there is one.
+     */
+    static UserPage toPage(List<UserSummary> users, int pageSize) {
+        if (users.size() <= pageSize) {
+            return new UserPage(users, null);
+        }
+        List<UserSummary> page = users.subList(0, pageSize);
+        return new UserPage(page, encodeCursor(page.get(pageSize - 1).getId()));
+    }
+
+    /**
+     * Streams every user, without its password, to the given consumer in id order.
+     *
+     * @param consumer Receives each user as it is read from the repository.
+     */
+    public void exportAll(Consumer<UserSummary> consumer) {
+        userRepository.streamAll(consumer);
+    }
+
     /**
      * Saves a new user to the repository.
-     * Before saving, it validates if a user with the same login already exists.
+     * Duplicate logins are not checked beforehand; the repository rejects them atomically through the
+     * unique constraint on the login, which also holds under concurrent registrations.
+     * Once saved, a {@link UserCreatedEvent} is published.
      *
      * @param user Represents the User object containing the details to be saved.
      * @throws UserAlreadyExistsException If a user with the same login already exists.
@@ -68,46 +228,145 @@ public class UserService {
     public User save(User user) {
         validateUserEmptyData(user);
 
-        if (findByLogin(user.getLogin()).isPresent()) {
-            ApplicationExceptions.userAlreadyExistException();
-        }
-
-        return userRepository.save(user.toBuilder()
-                .id(UUID.randomUUID().toString())
+        User savedUser = userRepository.save(user.toBuilder()
+                .id(userIdGenerator.nextId())
                 .name(user.getName())
                 .login(user.getLogin())
                 .password(user.getPassword())
                 .build());
+        publishCreated(savedUser);
+        return savedUser;
+    }
+
+    /**
+     * Imports one chunk of new users.
+     *
+     * Every row is validated with the same rules as {@link #save(User)}. Rows whose login is already stored, or
+     * repeated earlier in the chunk, are reported as duplicates. The passwords of the remaining rows are hashed
+     * together with the given encoder and the users are written with a single {@link UserRepository#saveAll(List)}
+     * call. If another writer stores one of the logins in the meantime, the chunk falls back to row-by-row saves
+     * so only the conflicting rows are rejected. A {@link UserCreatedEvent} is published for every user created.
+     *
+     * @param users            The rows to import, with raw passwords.
+     * @param rowNumbers       The 1-based line of each user in the imported file, used in the report.
+     * @param passwordsEncoder Hashes a list of raw passwords, returning the hashes in the same order.
+     * @return One result per row, in row order.
+     */
+    public List<UserImportResult> importUsers(List<User> users, List<Integer> rowNumbers, UnaryOperator<List<String>> passwordsEncoder) {
+        UserImportResult[] results = new UserImportResult[users.size()];
+        List<Integer> candidates = new ArrayList<>(users.size());
+        Set<String> logins = new HashSet<>();
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            try {
+                validateUserEmptyData(user);
+            } catch (UserEmptyDataException e) {
+                results[i] = UserImportResult.invalid(rowNumbers.get(i), user.getLogin(), e.getMessage());
+                continue;
+            }
+            if (!logins.add(user.getLogin())) {
+                results[i] = UserImportResult.duplicate(rowNumbers.get(i), user.getLogin());
+                continue;
+            }
+            candidates.add(i);
+        }
+
+        Set<String> existingLogins = logins.isEmpty() ? Set.of() : userRepository.findExistingLogins(logins);
+        List<Integer> rows = new ArrayList<>(candidates.size());
+        List<String> rawPasswords = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            User user = users.get(i);
+            if (existingLogins.contains(user.getLogin())) {
+                results[i] = UserImportResult.duplicate(rowNumbers.get(i), user.getLogin());
+            } else {
+                rows.add(i);
+                rawPasswords.add(user.getPassword());
+            }
+        }
+        if (rows.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        List<String> hashes = passwordsEncoder.apply(rawPasswords);
+        List<User> newUsers = new ArrayList<>(rows.size());
+        for (int j = 0; j < rows.size(); j++) {
+            User user = users.get(rows.get(j));
+            newUsers.add(User.builder()
+                    .id(userIdGenerator.nextId())
+                    .name(user.getName())
+                    .login(user.getLogin())
+                    .password(hashes.get(j))
+                    .build());
+        }
+
+        try {
+            userRepository.saveAll(newUsers);
+            for (int j = 0; j < rows.size(); j++) {
+                results[rows.get(j)] = UserImportResult.created(rowNumbers.get(rows.get(j)), newUsers.get(j));
+                publishCreated(newUsers.get(j));
+            }
+        } catch (UserAlreadyExistsException e) {
+            for (int j = 0; j < rows.size(); j++) {
+                int i = rows.get(j);
+                try {
+                    userRepository.saveAll(List.of(newUsers.get(j)));
+                    results[i] = UserImportResult.created(rowNumbers.get(i), newUsers.get(j));
+                    publishCreated(newUsers.get(j));
+                } catch (UserAlreadyExistsException duplicate) {
+                    results[i] = UserImportResult.duplicate(rowNumbers.get(i), newUsers.get(j).getLogin());
+                }
+            }
+        }
+        return Arrays.asList(results);
     }
 
     /**
      * Updates an existing user in the repository.
-     * Before updating, it checks if the provided data is valid and if the login does not conflict with another user.
+     * Before updating, it checks if the provided data is valid. Existence and login conflicts are detected by the
+     * repository's single update statement, so the user is not read first.
+     * Once updated, a {@link UserChangedEvent} is published for the user's id and new login.
      *
      * @param id          The ID of the user to update.
      * @param updatedUser The User object containing the updated details.
-     * @return The updated User object.
-     * @throws CustomersNotFoundException If the user with the given ID does not exist.
+     * @return The updated user, without its password.
+     * @throws UserNotFoundException If the user with the given ID does not exist.
      * @throws UserAlreadyExistsException If another user with the same login exists.
      */
-    public User update(String id, User updatedUser) {
-       validateUserEmptyData(updatedUser);
+    public UserSummary update(String id, User updatedUser) {
+        validateUserEmptyData(updatedUser);
 
-       User existingUser = findById(id);
-       if (!existingUser.getLogin().equals(updatedUser.getLogin()) && findByLogin(updatedUser.getLogin()).isPresent()) {
-            ApplicationExceptions.userAlreadyExistException();
-        }
-
-        existingUser.setName(updatedUser.getName());
-        existingUser.setLogin(updatedUser.getLogin());
-        existingUser.setPassword(updatedUser.getPassword());
+        User savedUser = userRepository.update(User.builder()
+                .id(id)
+                .name(updatedUser.getName())
+                .login(updatedUser.getLogin())
+                .password(updatedUser.getPassword())
+                .build());
+        eventPublisher.publishEvent(new UserChangedEvent(id, savedUser.getLogin()));
+        return new UserSummary(savedUser.getId(), savedUser.getName(), savedUser.getLogin());
+    }
 
-        return userRepository.update(existingUser);
+    /**
+     * Replaces the password a user was read with by a new one, typically the hash of a legacy plain text password.
+     * The password is only replaced if it was not changed since the user was read.
+     * Once replaced, a {@link UserChangedEvent} is published for the user's id and login.
+     *
+     * @param user        The user as it was read, with its current password.
+     * @param newPassword The password to store.
+     * @return true if the password was replaced.
+     */
+    public boolean replacePassword(User user, String newPassword) {
+        if (!userRepository.replacePassword(user.getId(), user.getPassword(), newPassword)) {
+            return false;
+        }
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getLogin()));
+        return true;
     }
 
     /**
      * Deletes a user by ID from the repository.
-     * Before deleting, it checks if the provided ID is valid and if the user exists in the repository.
+     * Before deleting, it checks if the provided ID is valid. Existence is checked through the number of rows
+     * deleted, so the user is not read first.
+     * Once deleted, a {@link UserChangedEvent} is published for the user's id.
      *
      * @param id The ID of the user to delete.
      * @return A success message when the user is deleted successfully.
@@ -118,14 +377,30 @@ public class UserService {
       if (id == null || id.trim().isEmpty()) {
         ApplicationExceptions.idUserIsNull("User ID cannot be null or empty");
       }
-      Optional<User> user = userRepository.findById(id);
-      if (user.isEmpty()) {
+      if (userRepository.deleteById(id) == 0) {
         ApplicationExceptions.userNotFoundException();
       }
-      userRepository.deleteById(id);
+      eventPublisher.publishEvent(new UserChangedEvent(id, null));
       return "User with ID: " + id + " deleted successfully";
     }
 
+    private void publishCreated(User user) {
+        eventPublisher.publishEvent(new UserCreatedEvent(user.getId(), user.getLogin()));
+    }
+
+    private static String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            ApplicationExceptions.invalidCursorException();
+            return null;
+        }
+    }
+
     /**
      * <p>
      * This method checks that the `name`, `login` and `password` fields
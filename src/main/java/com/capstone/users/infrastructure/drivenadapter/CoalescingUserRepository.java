@@ -0,0 +1,162 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserChangedEvent;
+import com.capstone.users.domain.model.UserCreatedEvent;
+import com.capstone.users.domain.model.UserRepository;
+import com.capstone.users.domain.model.UserSummary;
+import com.capstone.users.utils.SingleFlight;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The CoalescingUserRepository class decorates the {@link UserRepositoryAdapter} so that concurrent lookups of the
+ * same user share one database query.
+ * <p>
+ * When many requests authenticate with the same account at once, only the first {@link #findByLogin(String)} for
+ * that login reaches the database; the others wait for its result. {@link #findById(String)} is coalesced the same
+ * way. Each caller receives its own copy of the user, so one caller changing it cannot affect another. Nothing is
+ * cached: a lookup that starts after the shared query completed runs a new one. All other operations are passed
+ * through unchanged.
+ * <p>
+ * A query that started before a user was written may return the user as it was. When the UserService publishes the
+ * write, the lookups in flight for the user are released, so callers that arrive afterwards run a new query instead
+ * of receiving that stale result. This runs right after {@link ReadYourWrites} records the write and before the
+ * other listeners, so the new query is routed like any read of a recent write, and the caches that stamp writes
+ * (the unknown-login and user-details caches) never see a stale result from a lookup that started after their stamp.
+ * Reads that must run on the primary database are never coalesced, since the shared query may run on a replica.
+ * <p>
+ * Coalescing sits above the transaction boundary: the UserService does not open a transaction for these lookups, and
+ * only the shared query opens one, in the {@link UserRepositoryAdapter}. Callers waiting for it hold no connection,
+ * so N concurrent lookups use one connection and one query. A lookup made inside a transaction already holds its
+ * connection and must see that transaction's view, so it is passed through.
+ * <p>
+ * It is the primary UserRepository unless "users.lookup-coalescing.enabled" is false.
+ */
+@Primary
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "users.lookup-coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final SingleFlight<String, Optional<User>> loginLookups = new SingleFlight<>();
+    private final SingleFlight<String, Optional<UserSummary>> idLookups = new SingleFlight<>();
+
+    public CoalescingUserRepository(UserRepositoryAdapter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<User> findByLogin(String login) {
+        if (!isCoalescable()) {
+            return delegate.findByLogin(login);
+        }
+        return loginLookups.execute(login, () -> delegate.findByLogin(login))
+                .map(user -> user.toBuilder().build());
+    }
+
+    @Override
+    public Optional<UserSummary> findById(String id) {
+        if (!isCoalescable()) {
+            return delegate.findById(id);
+        }
+        return idLookups.execute(id, () -> delegate.findById(id))
+                .map(user -> new UserSummary(user.getId(), user.getName(), user.getLogin()));
+    }
+
+    /**
+     * Tells whether a lookup may share a query started by another caller: it must not run in a transaction of its own
+     * caller, and must not be required to read from the primary database.
+     */
+    private static boolean isCoalescable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive() && !ReadYourWrites.isPrimaryRequired();
+    }
+
+    /**
+     * Releases the lookups in flight for the id and login of a new user, which may have found no user.
+     *
+     * @param event the creation published by the UserService
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onUserCreated(UserCreatedEvent event) {
+        idLookups.forget(event.getId());
+        loginLookups.forget(event.getLogin());
+    }
+
+    /**
+     * Releases the lookups in flight for the id of an updated or deleted user, and every login lookup in flight,
+     * since the login the user had before an update is not known.
+     *
+     * @param event the change published by the UserService
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onUserChanged(UserChangedEvent event) {
+        idLookups.forget(event.getId());
+        loginLookups.forgetAll();
+    }
+
+    @Override
+    public User save(User user) {
+        return delegate.save(user);
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        return delegate.saveAll(users);
+    }
+
+    @Override
+    public Set<String> findExistingLogins(Collection<String> logins) {
+        return delegate.findExistingLogins(logins);
+    }
+
+    @Override
+    public User update(User user) {
+        return delegate.update(user);
+    }
+
+    @Override
+    public boolean replacePassword(String id, String currentPassword, String newPassword) {
+        return delegate.replacePassword(id, currentPassword, newPassword);
+    }
+
+    @Override
+    public List<UserSummary> findAllByIds(Collection<String> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<UserSummary> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<UserSummary> findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<UserSummary> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public int deleteById(String id) {
+        return delegate.deleteById(id);
+    }
+}
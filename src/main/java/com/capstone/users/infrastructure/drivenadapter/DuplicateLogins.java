@@ -0,0 +1,151 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.exception.spi.ViolatedConstraintNameExtractor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The DuplicateLogins class tells whether a failed write was rejected because its login is already stored.
+ * <p>
+ * Inserts and updates do not look the login up first: they rely on a unique key on "users.login". A failure counts as
+ * a duplicate login when the database reports a unique key violation by its vendor code (MySQL error 1062, or the
+ * standard SQLState 23505 used by other databases) and the violated key, as named by the dialect, is one of the unique
+ * indexes that cover exactly the login column. Those indexes are read from the database metadata, so the key may have
+ * any name; a violation of any other key, such as the primary key, is not a duplicate login.
+ * <p>
+ * A table without a unique key on the login accepts duplicate logins. This is logged at startup;
+ * "db/V3__users_login_unique.sql" adds the key.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class DuplicateLogins {
+
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String TABLE = "users";
+    private static final String COLUMN = "login";
+
+    private final DataSource dataSource;
+    private final ViolatedConstraintNameExtractor constraintNames;
+    private volatile Set<String> loginKeys;
+
+    @Autowired
+    public DuplicateLogins(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this(dataSource, entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getViolatedConstraintNameExtractor());
+    }
+
+    DuplicateLogins(DataSource dataSource, ViolatedConstraintNameExtractor constraintNames) {
+        this.dataSource = dataSource;
+        this.constraintNames = constraintNames;
+    }
+
+    /**
+     * Warns when the users table has no unique key on the login, since duplicate logins are then accepted.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkLoginKey() {
+        try {
+            if (loginKeys().isEmpty()) {
+                log.warn("Table {} has no unique index on {}: duplicate logins are not rejected. "
+                        + "Apply db/V3__users_login_unique.sql", TABLE, COLUMN);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not read the indexes of table {}", TABLE, e);
+        }
+    }
+
+    /**
+     * Tells whether a failed statement violated the unique key on the login.
+     *
+     * @param e The exception translated from the failed statement.
+     * @return true if the statement inserted or set a login that is already stored.
+     */
+    public boolean isDuplicateLogin(DataAccessException e) {
+        SQLException sqlException = sqlException(e);
+        if (sqlException == null || !isUniqueViolation(sqlException)) {
+            return false;
+        }
+        String key = constraintNames.extractConstraintName(sqlException);
+        return key != null && loginKeys().contains(normalize(key));
+    }
+
+    private static SQLException sqlException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isUniqueViolation(SQLException e) {
+        return e.getErrorCode() == MYSQL_DUPLICATE_ENTRY || UNIQUE_VIOLATION.equals(e.getSQLState());
+    }
+
+    /**
+     * Reads, once, the names of the unique indexes of the users table whose only column is the login.
+     */
+    private Set<String> loginKeys() {
+        Set<String> keys = loginKeys;
+        if (keys == null) {
+            keys = readLoginKeys();
+            loginKeys = keys;
+        }
+        return keys;
+    }
+
+    private Set<String> readLoginKeys() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase(Locale.ROOT) : TABLE;
+            Map<String, Map<Integer, String>> columns = new HashMap<>();
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true, false)) {
+                while (indexes.next()) {
+                    String index = indexes.getString("INDEX_NAME");
+                    String column = indexes.getString("COLUMN_NAME");
+                    if (index != null && column != null) {
+                        columns.computeIfAbsent(normalize(index), name -> new TreeMap<>())
+                                .put((int) indexes.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return columns.entrySet().stream()
+                    .filter(index -> List.copyOf(index.getValue().values()).equals(List.of(COLUMN)))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toUnmodifiableSet());
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Read indexes of " + TABLE, null, e);
+        }
+    }
+
+    /**
+     * Drops the schema or table qualifier and any quoting from a key name, and lower cases it.
+     */
+    private static String normalize(String key) {
+        String name = key.substring(key.lastIndexOf('.') + 1);
+        return name.replace("`", "").replace("\"", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,176 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.infrastructure.entrypoint.auth.PwdValidator;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The LegacyPasswordMigrationJob class replaces every plain text password left in the "users" table with its BCrypt hash.
+ * <p>
+ * When "users.password-migration.enabled" is true, the job starts in the background once the application is ready.
+ * It walks the table in chunks ordered by id (keyset pagination, so each chunk is an index range scan), hashes the
+ * plain text passwords of a chunk in parallel, and writes them back with one JDBC batch update per chunk. Each
+ * update only applies if the password is still the plain text value that was read, so concurrent changes are kept.
+ * <p>
+ * Progress and throughput are logged after every chunk, including the last id processed. An interrupted run can be
+ * resumed from that id with "users.password-migration.start-after-id"; running the job again from the start is also
+ * safe because hashed passwords are skipped. Ids are read and bound as the 16 bytes of the BINARY(16) "id" column.
+ * The updates bypass Hibernate, so the users cached in the second-level cache are evicted after every chunk.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "users.password-migration.enabled", havingValue = "true")
+public class LegacyPasswordMigrationJob implements ApplicationRunner {
+
+    private static final String SELECT_CHUNK = "SELECT id, password FROM users WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_PASSWORD = "UPDATE users SET password = ? WHERE id = ? AND password = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PwdValidator pwdValidator = new PwdValidator();
+    private final int chunkSize;
+    private final int threads;
+    private final UUID startAfterId;
+
+    public LegacyPasswordMigrationJob(JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      EntityManagerFactory entityManagerFactory,
+                                      @Value("${users.password-migration.chunk-size:1000}") int chunkSize,
+                                      @Value("${users.password-migration.threads:0}") int threads,
+                                      @Value("${users.password-migration.start-after-id:}") String startAfterId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.chunkSize = chunkSize;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.startAfterId = startAfterId.isBlank() ? new UUID(0L, 0L) : UUID.fromString(startAfterId.trim());
+    }
+
+    /**
+     * Starts the migration on a background thread so it does not delay the application startup.
+     *
+     * @param args the application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread worker = new Thread(() -> migrate(startAfterId), "password-migration");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Migrates every plain text password stored after the given id.
+     *
+     * @param afterId the id to resume after, or the nil UUID to start from the beginning.
+     * @return The number of passwords that were hashed.
+     */
+    public long migrate(UUID afterId) {
+        ExecutorService hashingPool = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("password-migration-hash-"));
+        long startedAt = System.nanoTime();
+        long scanned = 0;
+        long migrated = 0;
+        UUID lastId = afterId;
+        try {
+            while (true) {
+                List<StoredPassword> chunk = jdbcTemplate.query(SELECT_CHUNK,
+                        (rs, rowNum) -> new StoredPassword(UserIds.fromBytes(rs.getBytes("id")), rs.getString("password")),
+                        UserIds.toBytes(lastId), chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                migrated += migrateChunk(chunk, hashingPool);
+                scanned += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).id();
+
+                double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+                log.info("Password migration: scanned={} migrated={} lastId={} rate={} rows/s",
+                        scanned, migrated, lastId, Math.round(scanned / Math.max(seconds, 0.001)));
+            }
+            log.info("Password migration finished: scanned={} migrated={}", scanned, migrated);
+        } catch (RuntimeException e) {
+            log.error("Password migration stopped, resume with users.password-migration.start-after-id={}", lastId, e);
+        } finally {
+            hashingPool.shutdown();
+        }
+        return migrated;
+    }
+
+    /**
+     * Hashes the plain text passwords of one chunk in parallel and writes them back in a single batch.
+     *
+     * @param chunk       the rows read from the table.
+     * @param hashingPool the pool the hashes are computed on.
+     * @return The number of rows updated.
+     */
+    private int migrateChunk(List<StoredPassword> chunk, ExecutorService hashingPool) {
+        List<StoredPassword> plainText = chunk.stream()
+                .filter(row -> row.password() != null && !pwdValidator.isPasswordEncrypted(row.password()))
+                .toList();
+        if (plainText.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<String>> hashes = new ArrayList<>(plainText.size());
+        for (StoredPassword row : plainText) {
+            hashes.add(hashingPool.submit(() -> passwordEncoder.encode(row.password())));
+        }
+        List<Object[]> updates = new ArrayList<>(plainText.size());
+        for (int i = 0; i < plainText.size(); i++) {
+            StoredPassword row = plainText.get(i);
+            updates.add(new Object[]{awaitHash(hashes.get(i)), row.id(), row.password()});
+        }
+
+        int[][] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_PASSWORD, updates, updates.size(),
+                (ps, update) -> {
+                    ps.setString(1, (String) update[0]);
+                    ps.setBytes(2, UserIds.toBytes((UUID) update[1]));
+                    ps.setString(3, (String) update[2]);
+                }));
+        plainText.forEach(row -> entityManagerFactory.getCache().evict(UserData.class, row.id()));
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                updated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    private String awaitHash(Future<String> hash) {
+        try {
+            return hash.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password migration was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private record StoredPassword(UUID id, String password) {
+    }
+}
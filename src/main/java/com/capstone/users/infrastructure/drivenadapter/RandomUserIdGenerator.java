@@ -0,0 +1,21 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.model.UserIdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * The RandomUserIdGenerator class creates random UUIDv4 ids, the scheme used before UUIDv7 ids were introduced.
+ * It is enabled by setting "users.id-generator" to "random".
+ */
+@Component
+@ConditionalOnProperty(name = "users.id-generator", havingValue = "random")
+public class RandomUserIdGenerator implements UserIdGenerator {
+
+    @Override
+    public String nextId() {
+        return UUID.randomUUID().toString();
+    }
+}
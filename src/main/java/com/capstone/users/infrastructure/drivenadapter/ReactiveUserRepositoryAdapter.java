@@ -0,0 +1,149 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.exceptions.userExceptions.InvalidCursorException;
+import com.capstone.users.domain.model.ReactiveUserRepository;
+import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserSummary;
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The ReactiveUserRepositoryAdapter class is the non-blocking driven adapter of the domain's ReactiveUserRepository.
+ * <p>
+ * It reads the same "users" table as the {@link UserRepositoryAdapter}, but through an R2DBC DatabaseClient, so no
+ * thread waits while a query runs. Ids are bound and read as the 16 bytes of the BINARY(16) "id" column (see
+ * {@link UserIds}); ids that are not UUIDs cannot belong to any user and complete empty without a query.
+ * Only {@link #findByLogin(String)} selects the password column.
+ * <p>
+ * This class is only active with the "reactive" profile, which also provides the R2DBC connection factory.
+ */
+@AllArgsConstructor
+@Component
+@Profile("reactive")
+public class ReactiveUserRepositoryAdapter implements ReactiveUserRepository {
+
+    private static final String SELECT_BY_LOGIN = "SELECT id, name, login, password FROM users WHERE login = :login";
+    private static final String SELECT_SUMMARY_BY_ID = "SELECT id, name, login FROM users WHERE id = :id";
+    private static final String SELECT_SUMMARIES_BY_IDS = "SELECT id, name, login FROM users WHERE id IN (:ids)";
+    private static final String SELECT_ALL_SUMMARIES = "SELECT id, name, login FROM users ORDER BY id";
+    private static final String SELECT_SUMMARY_PAGE = "SELECT id, name, login FROM users ORDER BY id LIMIT :limit";
+    private static final String SELECT_SUMMARY_PAGE_AFTER =
+            "SELECT id, name, login FROM users WHERE id > :afterId ORDER BY id LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Finds a user by login, with its password.
+     *
+     * @param login The login of the user.
+     * @return The user, or an empty Mono if no user has this login.
+     */
+    @Override
+    public Mono<User> findByLogin(String login) {
+        if (login == null) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(SELECT_BY_LOGIN)
+                .bind("login", login)
+                .map(row -> User.builder()
+                        .id(readId(row))
+                        .name(row.get("name", String.class))
+                        .login(row.get("login", String.class))
+                        .password(row.get("password", String.class))
+                        .build())
+                .one();
+    }
+
+    /**
+     * Finds a user by id, without its password.
+     *
+     * @param id The id of the user.
+     * @return The user, or an empty Mono if the id does not exist or is not a UUID.
+     */
+    @Override
+    public Mono<UserSummary> findById(String id) {
+        return Mono.justOrEmpty(UserIds.parse(id))
+                .flatMap(uuid -> databaseClient.sql(SELECT_SUMMARY_BY_ID)
+                        .bind("id", UserIds.toBytes(uuid))
+                        .map(this::mapSummary)
+                        .one());
+    }
+
+    /**
+     * Finds the users with the given ids with a single query, without their passwords.
+     *
+     * @param ids The ids of the users; ids that are not UUIDs are skipped.
+     * @return The users found, in no particular order.
+     */
+    @Override
+    public Flux<UserSummary> findAllByIds(Collection<String> ids) {
+        List<byte[]> keys = ids.stream()
+                .map(UserIds::parse)
+                .flatMap(Optional::stream)
+                .map(UserIds::toBytes)
+                .toList();
+        if (keys.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SELECT_SUMMARIES_BY_IDS)
+                .bind("ids", keys)
+                .map(this::mapSummary)
+                .all();
+    }
+
+    /**
+     * Streams every user, without its password, in id order as rows arrive.
+     *
+     * @return The users in id order.
+     */
+    @Override
+    public Flux<UserSummary> findAll() {
+        return databaseClient.sql(SELECT_ALL_SUMMARIES)
+                .map(this::mapSummary)
+                .all();
+    }
+
+    /**
+     * Reads one page of users ordered by id with a keyset condition.
+     *
+     * @param afterId The id of the last user of the previous page, or null for the first page.
+     * @param limit   The maximum number of users to return.
+     * @return The users of the page, in id order.
+     * @throws InvalidCursorException If the id is not a UUID, as an error signal.
+     */
+    @Override
+    public Flux<UserSummary> findPage(String afterId, int limit) {
+        if (afterId == null) {
+            return databaseClient.sql(SELECT_SUMMARY_PAGE)
+                    .bind("limit", limit)
+                    .map(this::mapSummary)
+                    .all();
+        }
+        return Mono.justOrEmpty(UserIds.parse(afterId))
+                .switchIfEmpty(Mono.error(InvalidCursorException::new))
+                .flatMapMany(after -> databaseClient.sql(SELECT_SUMMARY_PAGE_AFTER)
+                        .bind("afterId", UserIds.toBytes(after))
+                        .bind("limit", limit)
+                        .map(this::mapSummary)
+                        .all());
+    }
+
+    private UserSummary mapSummary(Readable row) {
+        return new UserSummary(readId(row), row.get("name", String.class), row.get("login", String.class));
+    }
+
+    private String readId(Readable row) {
+        UUID id = UserIds.fromBytes(row.get("id", byte[].class));
+        return id.toString();
+    }
+}
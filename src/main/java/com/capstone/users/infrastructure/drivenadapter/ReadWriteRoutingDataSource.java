@@ -0,0 +1,66 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The ReadWriteRoutingDataSource class sends the connections of read-only transactions to read replicas and every
+ * other connection to the primary.
+ * <p>
+ * Replicas are used round-robin. A read-only transaction still goes to the primary while
+ * {@link ReadYourWrites#isPrimaryRequired()} is set on the current thread. The route is decided when a connection is
+ * requested, so this DataSource must be wrapped in a LazyConnectionDataSourceProxy: transaction managers open the
+ * connection before the read-only flag of the transaction is published.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<DataSource> dataSources = new ArrayList<>();
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        dataSources.add(primary);
+        for (DataSource replica : replicas) {
+            String key = "replica-" + replicaKeys.size();
+            targets.put(key, replica);
+            replicaKeys.add(key);
+            dataSources.add(replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWrites.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    /**
+     * Closes the connection pools of the primary and the replicas when the application context is closed.
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.model.UserChangedEvent;
+import com.capstone.users.domain.model.UserCreatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * The ReadYourWrites class keeps reads of recently written users on the primary database when replica routing is on.
+ * <p>
+ * Every user created, updated or deleted through this node is remembered by id and login for
+ * "users.datasource.routing.read-your-writes-window". Reads keyed by one of those values run with
+ * {@link #isPrimaryRequired()} set, so a client that registers or updates a user and reads it right away does not
+ * hit a replica that has not applied the write yet. {@link #onPrimary(Supplier)} forces the primary for any other read.
+ * Writes made through other nodes are not tracked; the window only covers clients that stay on the same node.
+ * Writes are recorded before any other listener runs, so a lookup restarted by the {@link CoalescingUserRepository}
+ * is already routed to the primary.
+ */
+@Component
+@Profile("!reactive")
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWrites(@Value("${users.datasource.routing.enabled:false}") boolean routingEnabled,
+                          @Value("${users.datasource.routing.read-your-writes-window:5s}") Duration window) {
+        this.recentWrites = routingEnabled
+                ? Caffeine.newBuilder().expireAfterWrite(window).maximumSize(100_000).build()
+                : null;
+    }
+
+    /**
+     * Tells whether reads on the current thread must go to the primary database.
+     *
+     * @return true inside {@link #onPrimary(Supplier)}
+     */
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    /**
+     * Runs a read against the primary database.
+     *
+     * @param  read  the read to run; it must not have used a connection of the current transaction yet
+     * @return       the result of the read
+     */
+    public <T> T onPrimary(Supplier<T> read) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Runs a read keyed by a user id or login, on the primary if that user was written recently.
+     *
+     * @param  key   the id or login the read looks up
+     * @param  read  the read to run
+     * @return       the result of the read
+     */
+    public <T> T read(String key, Supplier<T> read) {
+        if (recentWrites != null && key != null && recentWrites.getIfPresent(key) != null) {
+            return onPrimary(read);
+        }
+        return read.get();
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onUserCreated(UserCreatedEvent event) {
+        record(event.getId(), event.getLogin());
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onUserChanged(UserChangedEvent event) {
+        record(event.getId(), event.getLogin());
+    }
+
+    private void record(String id, String login) {
+        if (recentWrites == null) {
+            return;
+        }
+        recentWrites.put(id, Boolean.TRUE);
+        if (login != null) {
+            recentWrites.put(login, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The UserCachedQueries interface declares the user lookups that can be answered from the Hibernate second-level
+ * cache. It is a fragment of {@link UserMySQLRepository}, implemented by {@link UserCachedQueriesImpl}.
+ */
+public interface UserCachedQueries {
+
+    /**
+     * Loads a user by its login through the natural-id API, so the login-to-id resolution and the entity itself
+     * come from the second-level cache when it is enabled.
+     */
+    Optional<UserData> findByNaturalLogin(String login);
+
+    /**
+     * Loads the id, name and login of a user: from the cached entity when the second-level cache is enabled,
+     * otherwise with a projection query that does not select the password.
+     */
+    Optional<UserSummaryData> findSummaryByIdCached(UUID id);
+}
@@ -0,0 +1,46 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The UserCachedQueriesImpl class implements the {@link UserCachedQueries} fragment with the Hibernate session API.
+ */
+class UserCachedQueriesImpl implements UserCachedQueries {
+
+    private static final String SUMMARY_BY_ID = "select new com.capstone.users.infrastructure.drivenadapter.UserSummaryData(u.id, u.name, u.login) from UserData u where u.id = :id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<UserData> findByNaturalLogin(String login) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(UserData.class)
+                .loadOptional(login);
+    }
+
+    @Override
+    public Optional<UserSummaryData> findSummaryByIdCached(UUID id) {
+        if (isSecondLevelCacheEnabled()) {
+            return Optional.ofNullable(entityManager.find(UserData.class, id))
+                    .map(user -> new UserSummaryData(user.getId(), user.getName(), user.getLogin()));
+        }
+        return entityManager.createQuery(SUMMARY_BY_ID, UserSummaryData.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    private boolean isSecondLevelCacheEnabled() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions()
+                .isSecondLevelCacheEnabled();
+    }
+}
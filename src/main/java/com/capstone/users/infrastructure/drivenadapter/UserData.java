@@ -1,7 +1,21 @@
 package com.capstone.users.infrastructure.drivenadapter;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
 
 /**
  * The UserData class represents the database entity for user information.
@@ -11,21 +25,54 @@ import lombok.Data;
  * to a column in the "users" table through the @Column annotation.
  * <p>
  * Fields:
- * - id: The unique identifier for the user, marked as the primary key with @Id.
+ * - id: The unique identifier for the user, marked as the primary key with @Id. It is stored as BINARY(16)
+ *   rather than as its 36-character text form, which keeps the primary key and every secondary index compact.
  * - name: The name of the user.
  * - login: The login credential for the user.
  * - password: The user's password (stored in plain text here but should ideally be hashed and salted).
+ * <p>
+ * The id is assigned by the application, so the entity implements Persistable to tell Spring Data whether it is new:
+ * entities created in memory are persisted with a plain INSERT instead of being merged, which would first SELECT
+ * the row by id. Entities loaded from or already written to the database are not new.
+ * <p>
+ * When the Hibernate second-level cache is enabled, users are cached by id in the "users" region and the login is a
+ * cached natural id ("users-by-login" region), so lookups by either key are served from memory. Writes through the
+ * entity or through JPQL update/delete statements invalidate the cached entries.
  */
 @Data
 @Entity
-@Table(name="users", uniqueConstraints = {@UniqueConstraint(columnNames = {"login"})})
-public class UserData {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-login")
+@Table(name="users", uniqueConstraints = {@UniqueConstraint(name = "login_UNIQUE", columnNames = {"login"})})
+public class UserData implements Persistable<UUID> {
     @Id
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
     @Column
     private String name;
+    @NaturalId(mutable = true)
     @Column
     private String login;
     @Column
     private String password;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
 }
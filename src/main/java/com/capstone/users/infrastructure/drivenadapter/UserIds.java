@@ -0,0 +1,44 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The UserIds class converts user ids between the String form used by the domain and the API, and the UUID
+ * stored in the BINARY(16) "id" column in big-endian byte order (the layout of MySQL's UUID_TO_BIN(id)).
+ */
+final class UserIds {
+
+    private UserIds() {
+    }
+
+    /**
+     * Parses an id received from the domain.
+     *
+     * @param id the String form of the id
+     * @return the UUID, or empty if the value is not a UUID and therefore cannot belong to any user.
+     */
+    static Optional<UUID> parse(String id) {
+        if (id == null || id.length() != 36) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -1,9 +1,21 @@
 package com.capstone.users.infrastructure.drivenadapter;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * The UserMySQLRepository interface provides the necessary methods to perform CRUD operations on UserData entities.
@@ -11,11 +23,75 @@ import java.util.Optional;
  * It extends JpaRepository, giving access to standard JPA repository methods such as save(), findById(), findAll(), and delete().
  * This interface is annotated with @Repository, making it a Spring Data component that can be injected into other classes.
  * <p>
- * JpaRepository<UserData, String>:
+ * JpaRepository<UserData, UUID>:
  * - UserData: The entity class being managed by this repository.
- * - String: The type of the entity's primary key.
+ * - UUID: The type of the entity's primary key.
+ * <p>
+ * The lookups by id and by login that can be served from the Hibernate second-level cache are declared in the
+ * {@link UserCachedQueries} fragment. The update and delete statements below are JPQL bulk operations, so Hibernate
+ * invalidates the cached users itself when they run.
  */
 @Repository
-public interface UserMySQLRepository extends JpaRepository<UserData, String> {
+public interface UserMySQLRepository extends JpaRepository<UserData, UUID>, UserCachedQueries {
     Optional<UserData> findByLogin(String login);
+
+    @Query("select new com.capstone.users.infrastructure.drivenadapter.UserSummaryData(u.id, u.name, u.login) from UserData u where u.id in :ids")
+    List<UserSummaryData> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select new com.capstone.users.infrastructure.drivenadapter.UserSummaryData(u.id, u.name, u.login) from UserData u")
+    List<UserSummaryData> findAllSummaries();
+
+    @Query("select new com.capstone.users.infrastructure.drivenadapter.UserSummaryData(u.id, u.name, u.login) from UserData u order by u.id")
+    List<UserSummaryData> findSummaryPage(Limit limit);
+
+    @Query("select new com.capstone.users.infrastructure.drivenadapter.UserSummaryData(u.id, u.name, u.login) from UserData u where u.id > :afterId order by u.id")
+    List<UserSummaryData> findSummaryPageAfter(@Param("afterId") UUID afterId, Limit limit);
+
+    @Query("select u.login from UserData u where u.login in :logins")
+    List<String> findLoginsIn(@Param("logins") Collection<String> logins);
+
+    /**
+     * Overwrites the name, login and password of a user with a single UPDATE statement, without loading it first.
+     *
+     * @return The number of rows updated: 1 if the user exists, 0 otherwise.
+     */
+    @Modifying
+    @Transactional
+    @Query("update UserData u set u.name = :name, u.login = :login, u.password = :password where u.id = :id")
+    int updateById(@Param("id") UUID id, @Param("name") String name,
+                   @Param("login") String login, @Param("password") String password);
+
+    /**
+     * Overwrites the password of a user with a single UPDATE statement, only if it still holds the given value.
+     *
+     * @return The number of rows updated: 1 if the user exists with that password, 0 otherwise.
+     */
+    @Modifying
+    @Transactional
+    @Query("update UserData u set u.password = :newPassword where u.id = :id and u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("id") UUID id, @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
+
+    /**
+     * Deletes a user with a single DELETE statement, without loading it first.
+     *
+     * @return The number of rows deleted: 1 if the user existed, 0 otherwise.
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from UserData u where u.id = :id")
+    int deleteUserById(@Param("id") UUID id);
+
+    /**
+     * Streams the id, name and login of every user ordered by id with a forward-only cursor.
+     * Rows are fetched from the database 500 at a time; the stream must be
+     * consumed and closed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.capstone.users.infrastructure.drivenadapter.UserSummaryData(u.id, u.name, u.login) from UserData u order by u.id")
+    Stream<UserSummaryData> streamAllSummaries();
+
 }
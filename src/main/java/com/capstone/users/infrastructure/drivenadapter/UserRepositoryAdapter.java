@@ -1,14 +1,30 @@
 package com.capstone.users.infrastructure.drivenadapter;
 
 import com.capstone.users.domain.exceptions.ApplicationExceptions;
+import com.capstone.users.domain.exceptions.userExceptions.InvalidCursorException;
+import com.capstone.users.domain.exceptions.userExceptions.UserAlreadyExistsException;
+import com.capstone.users.domain.exceptions.userExceptions.UserNotFoundException;
 import com.capstone.users.domain.model.User;
 import com.capstone.users.domain.model.UserRepository;
+import com.capstone.users.domain.model.UserSummary;
 import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The UserRepositoryAdapter class serves as an adapter between the domain layer and the persistence layer (driven adapter).
@@ -17,34 +33,102 @@ import java.util.stream.Collectors;
  * the UserMySQLRepository. By doing so, it ensures the domain layer remains independent of the underlying persistence mechanism.
  * <p>
  * This class is annotated with @Component, indicating that it is a Spring-managed bean that can be injected where needed.
+ * Reads run in read-only transactions, which go to a read replica when datasource routing is enabled; reads of a
+ * user written moments ago through this node stay on the primary (see {@link ReadYourWrites}).
+ * Duplicate logins are detected from the unique key on "login" (see {@link DuplicateLogins}).
  * The @AllArgsConstructor annotation automatically generates a constructor with arguments for all fields, enabling easy dependency injection.
  */
 @AllArgsConstructor
 @Component
+@Profile("!reactive")
 public class UserRepositoryAdapter implements UserRepository {
 
+    private static final String INSERT_USER = "INSERT INTO users (id, name, login, password) VALUES (?, ?, ?, ?)";
+
     private final UserMySQLRepository userMySQLRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadYourWrites readYourWrites;
+    private final DuplicateLogins duplicateLogins;
 
     /**
-     * Saves a User domain object to the MySQL repository.
+     * Inserts a new User domain object into the MySQL repository.
+     *
+     * The entity is persisted as new, so the insert is a single statement, and it is flushed right away so a
+     * duplicate login is reported by the unique constraint on "login" instead of being checked beforehand. Any other
+     * integrity violation is rethrown.
      *
      * @param user Represents the User domain object to be saved.
+     * @throws UserAlreadyExistsException If a user with the same login already exists.
      */
     @Override
     public User save(User user) {
         UserData userData = mapFrom(user);
-        return mapTo(userMySQLRepository.save(userData));
+        try {
+            return mapTo(userMySQLRepository.saveAndFlush(userData));
+        } catch (DataIntegrityViolationException e) {
+            if (!duplicateLogins.isDuplicateLogin(e)) {
+                throw e;
+            }
+            ApplicationExceptions.userAlreadyExistException();
+            return null;
+        }
     }
 
     /**
-     * Finds a user by their login.
+     * Inserts new users with a single JDBC batch, in one transaction.
+     *
+     * The rows bypass the persistence context, so no entity is loaded or merged; with
+     * "rewriteBatchedStatements" the MySQL driver sends the whole batch as multi-row inserts.
+     *
+     * Only a violation of the unique key on "login" is reported as an existing user; any other duplicate key, such
+     * as a clashing id, is rethrown.
+     *
+     * @param users The new users to insert, with their ids and encoded passwords already set.
+     * @return The inserted users.
+     * @throws UserAlreadyExistsException If one of the logins is already stored; no user of the batch is inserted.
+     */
+    @Override
+    @Transactional
+    public List<User> saveAll(List<User> users) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, user) -> {
+                ps.setBytes(1, UserIds.toBytes(UUID.fromString(user.getId())));
+                ps.setString(2, user.getName());
+                ps.setString(3, user.getLogin());
+                ps.setString(4, user.getPassword());
+            });
+        } catch (DuplicateKeyException e) {
+            if (!duplicateLogins.isDuplicateLogin(e)) {
+                throw e;
+            }
+            ApplicationExceptions.userAlreadyExistException();
+        }
+        return users;
+    }
+
+    /**
+     * Returns which of the given logins are already stored, with one query.
+     *
+     * @param logins The logins to look for.
+     * @return The subset of the logins that belong to an existing user.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingLogins(Collection<String> logins) {
+        return new HashSet<>(userMySQLRepository.findLoginsIn(logins));
+    }
+
+    /**
+     * Finds a user by their login, including the password.
+     * This is the authentication path and the only read that loads the password column.
      *
      * @param login Is the login identifier of the user.
      * @return An Optional containing the User if found, or empty if the user does not exist.
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByLogin(String login) {
-        return userMySQLRepository.findByLogin(login)
+        return readYourWrites.read(login, () -> userMySQLRepository.findByNaturalLogin(login))
                 .map(this::mapTo);
     }
 
@@ -52,47 +136,152 @@ public class UserRepositoryAdapter implements UserRepository {
      * Finds a user by their unique identifier (ID).
      *
      * This method interacts with the underlying MySQL repository to search for a user by their ID.
-     * If a user with the provided ID exists in the database, it maps the corresponding UserData entity
-     * into a User domain model and returns it wrapped in an Optional. If no user is found, it returns an empty Optional.
+     * Only the id, name and login columns are selected, into a UserSummary projection that is not managed
+     * by the persistence context. If no user is found, it returns an empty Optional.
      *
      * @param id The unique identifier of the user to find.
-     * @return An Optional containing the User domain model if found, or empty if no user is found with the provided ID.
+     * @return An Optional containing the UserSummary if found, or empty if no user is found with the provided ID.
      */
     @Override
-    public Optional<User> findById(String id) {
-        return userMySQLRepository.findById(id)
+    @Transactional(readOnly = true)
+    public Optional<UserSummary> findById(String id) {
+        return UserIds.parse(id)
+                .flatMap(uuid -> readYourWrites.read(id, () -> userMySQLRepository.findSummaryByIdCached(uuid)))
                 .map(this::mapTo);
     }
 
+    /**
+     * Finds every user whose id is in the given collection with a single IN query.
+     *
+     * Ids that are not UUIDs cannot belong to any user and are not sent to the database.
+     *
+     * @param ids The ids of the users to find.
+     * @return The users that exist, in no particular order.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserSummary> findAllByIds(Collection<String> ids) {
+        List<UUID> uuids = ids.stream().map(UserIds::parse).flatMap(Optional::stream).toList();
+        if (uuids.isEmpty()) {
+            return List.of();
+        }
+        return userMySQLRepository.findSummariesByIdIn(uuids).stream().map(this::mapTo).collect(Collectors.toList());
+    }
+
     /**
      * Retrieves all users from the MySQL repository.
      *
-     * This method fetches all records from the underlying database, converts each UserData entity into a
-     * User domain model, and returns the result as a list. It uses Java Streams to map and collect the
-     * entities into their corresponding domain models.
+     * This method fetches the id, name and login of all records from the underlying database, converts each
+     * projection into a UserSummary domain model, and returns the result as a list. It uses Java Streams to map
+     * and collect the projections into their corresponding domain models.
      *
-     * @return A List of User domain models representing all users in the system.
+     * @return A List of UserSummary domain models representing all users in the system.
      */
     @Override
-    public List<User> findAll() {
-        return userMySQLRepository.findAll().stream().map(this::mapTo).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<UserSummary> findAll() {
+        return userMySQLRepository.findAllSummaries().stream().map(this::mapTo).collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves up to {@code limit} users ordered by id, starting right after the given id.
+     *
+     * The query seeks directly to the id through the primary key index, so each page costs the same
+     * regardless of how deep into the table it is.
+     *
+     * @param afterId The id of the last user of the previous page, or null for the first page.
+     * @param limit   The maximum number of users to return.
+     * @return A List of UserSummary domain models ordered by id.
+     * @throws InvalidCursorException If the id is not a UUID.
+     */
     @Override
-    public User update(User user) {
-        Optional<UserData> existingUserData = userMySQLRepository.findById(user.getId());
+    @Transactional(readOnly = true)
+    public List<UserSummary> findPage(String afterId, int limit) {
+        List<UserSummaryData> page;
+        if (afterId == null) {
+            page = userMySQLRepository.findSummaryPage(Limit.of(limit));
+        } else {
+            UUID after = UserIds.parse(afterId).orElseThrow(InvalidCursorException::new);
+            page = userMySQLRepository.findSummaryPageAfter(after, Limit.of(limit));
+        }
+        return page.stream().map(this::mapTo).collect(Collectors.toList());
+    }
 
-        if (existingUserData.isEmpty()) {
+    /**
+     * Streams every user, without its password, to the given consumer in id order.
+     *
+     * Rows are read through a forward-only cursor one fetch batch at a time and are not kept by the
+     * persistence context, so memory use stays constant whatever the size of the table.
+     *
+     * @param consumer Receives each user as soon as its row is read.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UserSummary> consumer) {
+        try (Stream<UserSummaryData> rows = userMySQLRepository.streamAllSummaries()) {
+            rows.map(this::mapTo).forEach(consumer);
+        }
+    }
+
+    /**
+     * Updates a user with a single UPDATE statement keyed by id.
+     *
+     * Existence is checked through the affected row count and login conflicts through the unique
+     * constraint on "login", so the update costs one round trip. Any other integrity violation is rethrown.
+     *
+     * @param user The user to update, with its id and new data.
+     * @return The updated user.
+     * @throws UserNotFoundException If no user has the given id.
+     * @throws UserAlreadyExistsException If another user already has the new login.
+     */
+    @Override
+    public User update(User user) {
+        Optional<UUID> id = UserIds.parse(user.getId());
+        if (id.isEmpty()) {
             ApplicationExceptions.userNotFoundException();
         }
-        UserData userData = mapFrom(user);
+        int updated = 0;
+        try {
+            updated = userMySQLRepository.updateById(id.get(), user.getName(), user.getLogin(), user.getPassword());
+        } catch (DataIntegrityViolationException e) {
+            if (!duplicateLogins.isDuplicateLogin(e)) {
+                throw e;
+            }
+            ApplicationExceptions.userAlreadyExistException();
+        }
+        if (updated == 0) {
+            ApplicationExceptions.userNotFoundException();
+        }
+        return user;
+    }
 
-        return mapTo(userMySQLRepository.save(userData));
+    /**
+     * Replaces the password of a user with a single UPDATE statement keyed by id and by the current password.
+     *
+     * A password changed by another writer since it was read is kept. As a bulk update, the statement also evicts
+     * the users cached in the second-level cache.
+     *
+     * @param id              The ID of the user.
+     * @param currentPassword The password the user is expected to still have.
+     * @param newPassword     The password to store.
+     * @return true if the password was replaced, false if the user does not exist or its password changed.
+     */
+    @Override
+    public boolean replacePassword(String id, String currentPassword, String newPassword) {
+        return UserIds.parse(id)
+                .map(uuid -> userMySQLRepository.updatePasswordIfUnchanged(uuid, currentPassword, newPassword) > 0)
+                .orElse(false);
     }
 
+    /**
+     * Deletes a user with a single DELETE statement keyed by id.
+     *
+     * @param id The ID of the user to delete.
+     * @return The number of users deleted, 0 if no user has the given id.
+     */
     @Override
-    public void deleteById(String id) {
-        userMySQLRepository.deleteById(id);
+    public int deleteById(String id) {
+        return UserIds.parse(id).map(userMySQLRepository::deleteUserById).orElse(0);
     }
 
     /**
@@ -102,13 +291,26 @@ public class UserRepositoryAdapter implements UserRepository {
      */
     private User mapTo(UserData userData) {
         return User.builder()
-                .id(userData.getId())
+                .id(userData.getId().toString())
                 .name(userData.getName())
                 .login(userData.getLogin())
                 .password(userData.getPassword())
                 .build();
     }
 
+    /**
+     * Converts the UserSummaryData projection into a UserSummary domain model object.
+     *
+     * @return A UserSummary domain model object with the data from this projection.
+     */
+    private UserSummary mapTo(UserSummaryData userSummaryData) {
+        return UserSummary.builder()
+                .id(userSummaryData.getId().toString())
+                .name(userSummaryData.getName())
+                .login(userSummaryData.getLogin())
+                .build();
+    }
+
     /**
      * Converts the User domain model object into a UserData entity.
      *
@@ -117,7 +319,7 @@ public class UserRepositoryAdapter implements UserRepository {
      */
     private UserData mapFrom(User user) {
         UserData userData = new UserData();
-        userData.setId(user.getId());
+        userData.setId(UUID.fromString(user.getId()));
         userData.setName(user.getName());
         userData.setLogin(user.getLogin());
         userData.setPassword(user.getPassword());
@@ -0,0 +1,18 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * The UserSummaryData class is a read-only projection of the "users" table with the id, name and login columns.
+ * <p>
+ * It is built by JPQL constructor expressions, so the password column is never selected and the rows are not
+ * managed by the persistence context.
+ */
+@Value
+public class UserSummaryData {
+    UUID id;
+    String name;
+    String login;
+}
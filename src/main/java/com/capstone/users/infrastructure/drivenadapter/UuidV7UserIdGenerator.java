@@ -0,0 +1,49 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.model.UserIdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The UuidV7UserIdGenerator class creates time-ordered UUIDv7 ids (RFC 9562).
+ * <p>
+ * The 48 most significant bits hold the Unix time in milliseconds and the 12 bits after the version hold a counter,
+ * so ids created by this generator are strictly increasing even within the same millisecond. When the counter
+ * overflows, the timestamp is advanced by one millisecond. The remaining 62 bits are random.
+ * <p>
+ * New rows are therefore appended at the end of the clustered primary key index instead of being inserted at random
+ * positions, which keeps index pages full and the insert working set small. This is the default generator; set
+ * "users.id-generator" to "random" to use random UUIDv4 ids instead.
+ */
+@Component
+@ConditionalOnProperty(name = "users.id-generator", havingValue = "uuidv7", matchIfMissing = true)
+public class UuidV7UserIdGenerator implements UserIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    @Override
+    public String nextId() {
+        return next().toString();
+    }
+
+    /**
+     * Creates the next UUIDv7.
+     *
+     * @return a UUIDv7 greater than every UUID returned before by this generator.
+     */
+    public UUID next() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long timestampAndCounter = lastTimestampAndCounter.updateAndGet(last -> Math.max(last + 1, now));
+        long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | 0x7000L
+                | (timestampAndCounter & 0xFFFL);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() >>> 2 | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
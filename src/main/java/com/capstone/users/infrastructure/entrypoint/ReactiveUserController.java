@@ -0,0 +1,65 @@
+package com.capstone.users.infrastructure.entrypoint;
+
+import com.capstone.users.domain.model.UserBatch;
+import com.capstone.users.domain.model.UserPage;
+import com.capstone.users.domain.model.UserSummary;
+import com.capstone.users.domain.service.ReactiveUserService;
+import com.capstone.users.domain.service.UserService;
+import com.capstone.users.infrastructure.entrypoint.dto.UserBatchRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The ReactiveUserController class serves the read endpoints of the {@link UserController} on WebFlux.
+ * <p>
+ * It is only active with the "reactive" profile, where it replaces UserController on the same paths and with the
+ * same responses; writes, imports and logins are not available in that profile.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("api/v1/users")
+@AllArgsConstructor
+@Tag(name = "User Controller", description = "Protected routes")
+public class ReactiveUserController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ReactiveUserService userService;
+
+    @Operation(summary = "Get User ById")
+    @GetMapping(value = "/get/{id}")
+    public Mono<UserSummary> getUserById(@Parameter(description = "User ID to get the information") @PathVariable String id) {
+        return userService.findById(id);
+    }
+
+    @Operation(summary = "Get Users by a list of IDs")
+    @PostMapping(value = "/get/batch")
+    public Mono<UserBatch> getUsersByIds(@Parameter(description = "User IDs to get, at most " + UserService.MAX_BATCH_IDS) @RequestBody UserBatchRequest request) {
+        return userService.findAllByIds(request.getIds());
+    }
+
+    @Operation(summary = "Get all Users")
+    @GetMapping(value = "/get")
+    public Flux<UserSummary> getUsers() {
+        return userService.findAll();
+    }
+
+    @Operation(summary = "Get a page of Users")
+    @GetMapping(value = "/get/page")
+    public Mono<UserPage> getUsersPage(@Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+                                       @Parameter(description = "Page size, at most " + UserService.MAX_PAGE_SIZE) @RequestParam(required = false) Integer limit) {
+        return userService.findPage(cursor, limit);
+    }
+
+    @Operation(summary = "Export all Users as newline-delimited JSON")
+    @GetMapping(value = "/export", produces = NDJSON)
+    public Flux<UserSummary> exportUsers() {
+        return userService.findAll();
+    }
+}
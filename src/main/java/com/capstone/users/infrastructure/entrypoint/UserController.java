@@ -1,54 +1,134 @@
 package com.capstone.users.infrastructure.entrypoint;
 
 import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserBatch;
+import com.capstone.users.domain.model.UserPage;
+import com.capstone.users.domain.model.UserSummary;
 import com.capstone.users.domain.service.UserService;
+import com.capstone.users.infrastructure.entrypoint.dto.UserBatchRequest;
+import com.capstone.users.infrastructure.entrypoint.dto.UserImportReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("api/v1/users")
 @AllArgsConstructor
 @Tag(name = "User Controller", description = "Protected routes")
 public class UserController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+    private static final int EXPORT_FLUSH_ROWS = 500;
 
     private final UserService userService;
     private final  PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final UserImportService userImportService;
 
     @Operation(summary = "User Update")
     @PutMapping(value = "/update/{id}")
-    public ResponseEntity<User> update(@Parameter(description = "User ID to be updated") @PathVariable String id,
+    public ResponseEntity<UserSummary> update(@Parameter(description = "User ID to be updated") @PathVariable String id,
                                        @Parameter(description = "User object") @RequestBody User user) {
-            User updatedUser = userService.update(id, user.toBuilder().password(passwordEncoder.encode(user.getPassword())).build());
+            UserSummary updatedUser = userService.update(id, user.toBuilder().password(passwordEncoder.encode(user.getPassword())).build());
         return ResponseEntity.ok(updatedUser);
     }
 
     @Operation(summary = "Get User ById")
     @GetMapping(value = "/get/{id}")
-    public ResponseEntity<User> getUserById(@Parameter(description = "User ID to get the information")@PathVariable String id){
-        User user = userService.findById(id);
+    public ResponseEntity<UserSummary> getUserById(@Parameter(description = "User ID to get the information")@PathVariable String id){
+        UserSummary user = userService.findById(id);
         return ResponseEntity.ok(user);
     }
 
+    @Operation(summary = "Get Users by a list of IDs")
+    @PostMapping(value = "/get/batch")
+    public ResponseEntity<UserBatch> getUsersByIds(@Parameter(description = "User IDs to get, at most " + UserService.MAX_BATCH_IDS) @RequestBody UserBatchRequest request) {
+        UserBatch batch = userService.findAllByIds(request.getIds());
+        return ResponseEntity.ok(batch);
+    }
+
     @Operation(summary = "Get all Users")
     @GetMapping(value = "/get")
-    public ResponseEntity<List<User>> getUsers() {
-        List<User> users = userService.findAll();
+    public ResponseEntity<List<UserSummary>> getUsers() {
+        List<UserSummary> users = userService.findAll();
         return ResponseEntity.ok(users);
     }
 
+    @Operation(summary = "Get a page of Users")
+    @GetMapping(value = "/get/page")
+    public ResponseEntity<UserPage> getUsersPage(@Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+                                                 @Parameter(description = "Page size, at most " + UserService.MAX_PAGE_SIZE) @RequestParam(required = false) Integer limit) {
+        UserPage page = userService.findPage(cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "Export all Users as newline-delimited JSON")
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> writeExport(new BufferedOutputStream(outputStream));
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    @Operation(summary = "Bulk import Users from newline-delimited JSON or CSV")
+    @PostMapping(value = "/import", consumes = {NDJSON, CSV})
+    public ResponseEntity<UserImportReport> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                        InputStream body) throws IOException {
+        UserImportReport report = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(NDJSON))
+                ? userImportService.importNdjson(body)
+                : userImportService.importCsv(body);
+        return ResponseEntity.ok(report);
+    }
+
     @Operation(summary = "User Delete")
     @DeleteMapping(value = "/delete/{id}")
     public ResponseEntity<String> delete(@Parameter(description = "User ID to be deleted") @PathVariable String id) {
         String response = userService.deleteById(id);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Writes every user as one JSON object per line, flushing the response every {@value #EXPORT_FLUSH_ROWS} rows
+     * so the client receives the export while it is still being read from the database.
+     *
+     * @param out the buffered response stream
+     * @throws IOException if the client connection fails
+     */
+    private void writeExport(OutputStream out) throws IOException {
+        int[] rows = {0};
+        try {
+            userService.exportAll(user -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(user));
+                    out.write('\n');
+                    if (++rows[0] % EXPORT_FLUSH_ROWS == 0) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
 }
@@ -0,0 +1,238 @@
+package com.capstone.users.infrastructure.entrypoint;
+
+import com.capstone.users.domain.exceptions.ApplicationExceptions;
+import com.capstone.users.domain.exceptions.userExceptions.InvalidImportFileException;
+import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserImportResult;
+import com.capstone.users.domain.service.UserService;
+import com.capstone.users.infrastructure.entrypoint.auth.BoundedPasswordEncoder;
+import com.capstone.users.infrastructure.entrypoint.dto.UserImportReport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The UserImportService class reads a bulk import body row by row and hands it to the UserService in chunks.
+ * <p>
+ * Two formats are accepted: newline-delimited JSON with one user object per line, and CSV with a header row
+ * naming the "name", "login" and "password" columns in any order. The body is never loaded whole; only the
+ * current chunk of "users.import.batch-size" rows and the per-row report are kept in memory. Each chunk is
+ * hashed in parallel on the password hashing pool and inserted with one JDBC batch.
+ * <p>
+ * Chunks are committed as they fill up, so a malformed row never fails the whole request: it is reported as an
+ * INVALID row and the import goes on with the next one, without cutting the current chunk short. Only a CSV header
+ * that cannot be used is rejected, before any row is imported.
+ * <p>
+ * Rows are reported by their line in the body, counting the CSV header and blank lines, so a report points at the
+ * line an editor shows.
+ */
+@Service
+@Profile("!reactive")
+public class UserImportService {
+
+    private final UserService userService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public UserImportService(UserService userService,
+                             BoundedPasswordEncoder passwordEncoder,
+                             ObjectMapper objectMapper,
+                             @Value("${users.import.batch-size:500}") int batchSize) {
+        this.userService = userService;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * Imports users from newline-delimited JSON. Lines that are not a valid user object are reported as INVALID.
+     *
+     * @param body the request body
+     * @return the per-row import report
+     * @throws IOException if the body cannot be read
+     */
+    public UserImportReport importNdjson(InputStream body) throws IOException {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            User user;
+            try {
+                user = objectMapper.readValue(stripBom(line), User.class);
+            } catch (JsonProcessingException e) {
+                user = null;
+            }
+            if (user == null) {
+                run.reject(lineNumber, "Row is not a valid user object");
+                continue;
+            }
+            run.add(lineNumber, user);
+        }
+        return run.finish();
+    }
+
+    /**
+     * Imports users from CSV with a header row. Rows that cannot be split into the header's columns are reported
+     * as INVALID.
+     *
+     * @param body the request body
+     * @return the per-row import report
+     * @throws IOException                 if the body cannot be read
+     * @throws InvalidImportFileException  if the header is malformed or missing a column
+     */
+    public UserImportReport importCsv(InputStream body) throws IOException {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) {
+            return run.finish();
+        }
+        List<String> columns = parseCsvLine(stripBom(header));
+        if (columns == null) {
+            ApplicationExceptions.invalidImportFileException("CSV header has an unterminated quoted field");
+        }
+        int nameColumn = requireColumn(columns, "name");
+        int loginColumn = requireColumn(columns, "login");
+        int passwordColumn = requireColumn(columns, "password");
+
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = parseCsvLine(line);
+            if (fields == null) {
+                run.reject(lineNumber, "Row has an unterminated quoted field");
+                continue;
+            }
+            if (fields.size() != columns.size()) {
+                run.reject(lineNumber, "Row has " + fields.size() + " fields, expected " + columns.size());
+                continue;
+            }
+            run.add(lineNumber, User.builder()
+                    .name(fields.get(nameColumn))
+                    .login(fields.get(loginColumn))
+                    .password(fields.get(passwordColumn))
+                    .build());
+        }
+        return run.finish();
+    }
+
+    private int requireColumn(List<String> columns, String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (name.equalsIgnoreCase(columns.get(i).trim())) {
+                return i;
+            }
+        }
+        ApplicationExceptions.invalidImportFileException("CSV header is missing the \"" + name + "\" column");
+        return -1;
+    }
+
+    private String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    /**
+     * Splits one CSV line into fields. Fields may be quoted with double quotes, and a doubled quote inside a
+     * quoted field stands for a literal quote. Quoted fields cannot span lines.
+     *
+     * @return the fields, or null if a quoted field is not terminated
+     */
+    private List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Collects rows into chunks and the results of every imported chunk, in line order.
+     */
+    private class ImportRun {
+        private final List<UserImportResult> results = new ArrayList<>();
+        private final List<UserImportResult> rejected = new ArrayList<>();
+        private List<User> chunk = new ArrayList<>(batchSize);
+        private List<Integer> lineNumbers = new ArrayList<>(batchSize);
+
+        void add(int lineNumber, User user) {
+            chunk.add(user);
+            lineNumbers.add(lineNumber);
+            if (chunk.size() == batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Reports a line as INVALID. The report is held with the pending chunk and merged into the results by line
+         * when the chunk is imported, so rejected rows do not shrink the batches.
+         */
+        void reject(int lineNumber, String message) {
+            rejected.add(UserImportResult.invalid(lineNumber, null, message));
+        }
+
+        UserImportReport finish() {
+            flush();
+            return UserImportReport.of(results);
+        }
+
+        private void flush() {
+            List<UserImportResult> imported = chunk.isEmpty()
+                    ? List.of()
+                    : userService.importUsers(chunk, lineNumbers, passwordEncoder::encodeAll);
+            int i = 0;
+            int j = 0;
+            while (i < imported.size() || j < rejected.size()) {
+                if (j == rejected.size() || (i < imported.size() && imported.get(i).getRow() < rejected.get(j).getRow())) {
+                    results.add(imported.get(i++));
+                } else {
+                    results.add(rejected.get(j++));
+                }
+            }
+            rejected.clear();
+            chunk = new ArrayList<>(batchSize);
+            lineNumbers = new ArrayList<>(batchSize);
+        }
+    }
+}
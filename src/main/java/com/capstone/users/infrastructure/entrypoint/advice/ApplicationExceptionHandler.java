@@ -1,12 +1,19 @@
 package com.capstone.users.infrastructure.entrypoint.advice;
 
 import com.capstone.users.domain.exceptions.CustomersNotFoundException;
+import com.capstone.users.domain.exceptions.PasswordHashingUnavailableException;
+import com.capstone.users.domain.exceptions.TooManyLoginAttemptsException;
 import com.capstone.users.domain.exceptions.userExceptions.AuthFailedException;
+import com.capstone.users.domain.exceptions.userExceptions.InvalidCursorException;
+import com.capstone.users.domain.exceptions.userExceptions.InvalidImportFileException;
+import com.capstone.users.domain.exceptions.userExceptions.TooManyIdsException;
 import com.capstone.users.domain.exceptions.userExceptions.UserAlreadyExistsException;
 import com.capstone.users.domain.exceptions.userExceptions.UserEmptyDataException;
 import com.capstone.users.domain.exceptions.userExceptions.UserNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -56,6 +63,49 @@ public class ApplicationExceptionHandler {
         });
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleException(InvalidCursorException ex) {
+        return build(HttpStatus.BAD_REQUEST, ex, problem -> {
+            problem.setType(URI.create("http://capstone.com/users/invalid-cursor"));
+            problem.setTitle("Invalid Cursor");
+        });
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ProblemDetail handleException(InvalidImportFileException ex) {
+        return build(HttpStatus.BAD_REQUEST, ex, problem -> {
+            problem.setType(URI.create("http://capstone.com/users/invalid-import-file"));
+            problem.setTitle("Invalid Import File");
+        });
+    }
+
+    @ExceptionHandler(TooManyIdsException.class)
+    public ProblemDetail handleException(TooManyIdsException ex) {
+        return build(HttpStatus.BAD_REQUEST, ex, problem -> {
+            problem.setType(URI.create("http://capstone.com/users/too-many-ids"));
+            problem.setTitle("Too Many Ids");
+        });
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ProblemDetail handleException(PasswordHashingUnavailableException ex) {
+        return build(HttpStatus.SERVICE_UNAVAILABLE, ex, problem -> {
+            problem.setType(URI.create("http://capstone.com/users/password-hashing-unavailable"));
+            problem.setTitle("Service Unavailable");
+        });
+    }
+
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ProblemDetail> handleException(TooManyLoginAttemptsException ex) {
+        ProblemDetail problemDetail = build(HttpStatus.TOO_MANY_REQUESTS, ex, problem -> {
+            problem.setType(URI.create("http://capstone.com/users/too-many-attempts"));
+            problem.setTitle("Too Many Requests");
+        });
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(problemDetail);
+    }
+
     private ProblemDetail build(HttpStatus status, Exception ex, Consumer<ProblemDetail> consumer) {
         var problem = ProblemDetail.forStatusAndDetail(status, ex.getMessage());
         consumer.accept(problem);
@@ -8,7 +8,9 @@ import com.capstone.users.infrastructure.entrypoint.auth.dto.LoginResquest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("api/v1/users/auth")
 @RequiredArgsConstructor
 @Tag(name = "Auth Controller", description = "Public routes")
@@ -24,30 +27,38 @@ public class AuthController {
 
     private final AuthService authService;
 
+    private final LoginRateLimiter loginRateLimiter;
+
+    private final UserService userService;
+
     /**
      * Handles the login request and returns a ResponseEntity containing the AuthResponse.
+     * The request is throttled per remote address, and delayed per login, before the password is verified.
      *
      * @param Resquest  the LoginResquest object containing the login credentials
+     * @param servletRequest the HTTP request, used for its remote address
      * @return a ResponseEntity containing the AuthResponse
      */
-    private final UserService userService;
-
     @PostMapping(value = "/login")
-    public ResponseEntity<AuthToken> login(@RequestBody LoginResquest Resquest) {
+    public ResponseEntity<AuthToken> login(@RequestBody LoginResquest Resquest, HttpServletRequest servletRequest) {
+        loginRateLimiter.acquireLogin(Resquest.getLogin(), servletRequest.getRemoteAddr());
         return ResponseEntity.ok(authService.login(Resquest));
     }
 
 
     /**
      * Handles the registration request and returns a ResponseEntity containing the AuthResponse.
+     * The request is throttled per remote address before the password is hashed.
      *
      * @param user the User object containing the registration data
+     * @param servletRequest the HTTP request, used for its remote address
      * @return a ResponseEntity containing the AuthResponse
      */
     @Operation(summary = "User Register")
     @PostMapping(value = "/register")
     public ResponseEntity<AuthToken> register(@Parameter(description = "User object", required = true)
-                                              @RequestBody User user) {
+                                              @RequestBody User user, HttpServletRequest servletRequest) {
+        loginRateLimiter.acquireAddress(servletRequest.getRemoteAddr());
         return ResponseEntity.ok(authService.register(user));
     }
 
@@ -9,83 +9,75 @@ import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthToken;
 import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthTokenResponse;
 import com.capstone.users.infrastructure.entrypoint.auth.dto.LoginResquest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class AuthService {
 
   private final UserService userService;
   private final JwtService jwtService;
-  private final AuthenticationManager authManager;
   private final PasswordEncoder passwordEncoder;
-  private final UserDetailsService userDetailsService;
-
+  private final PrincipalResolver principalResolver;
+  private final UnknownLoginCache unknownLoginCache;
+  private final PwdValidator pwdValidator = new PwdValidator();
+  private volatile String dummyPasswordHash;
 
     /**
    * Logs in a user with the provided login request and returns an authentication response containing a JWT token.
+   * <p>
+   * The user is loaded once, the password is verified once against that snapshot, and the token is issued from it.
+   * A legacy plain text password that has not been migrated yet by the LegacyPasswordMigrationJob is still accepted:
+   * it is compared in constant time and, when it matches, replaced by its hash, unless it changed in the meantime.
+   * <p>
+   * Logins known not to exist are rejected by the {@link UnknownLoginCache} without a database query. An unknown
+   * login is still checked against a dummy hash, so it takes as long to reject as a wrong password.
    *
    * @param  loginResquest  the login request containing the user's login and password
    * @return                an authentication response containing a JWT token
-   * @throws RuntimeException if the user is not found
-   * @throws AuthenticationException if the password does not match the user's password
+   * @throws AuthFailedException if the user is not found or the password does not match the user's password
    */
   public AuthToken login(LoginResquest loginResquest) {
-    PwdValidator pwdValidator = new PwdValidator();
-    User user = userService.findByLogin(loginResquest.getLogin())
-        .orElseThrow();
-
-    if (!pwdValidator.isPasswordEncrypted(user.getPassword()) &&
-        loginResquest.getPassword().equals(user.getPassword())) {
-        updatePassword(user, loginResquest.getPassword());
+    Optional<User> found = unknownLoginCache.lookup(loginResquest.getLogin(), userService::findByLogin);
+    if (found.isEmpty()) {
+      passwordEncoder.matches(loginResquest.getPassword(), dummyPasswordHash());
+      throw new AuthFailedException();
     }
+    User user = found.get();
 
-    try {
-      authManager.authenticate(new UsernamePasswordAuthenticationToken(loginResquest.getLogin(), loginResquest.getPassword()));
-    } catch (AuthenticationException e) {
+    if (pwdValidator.isPasswordEncrypted(user.getPassword())) {
+      if (!passwordEncoder.matches(loginResquest.getPassword(), user.getPassword())) {
+        ApplicationExceptions.authFailedException();
+      }
+    } else if (isLegacyPasswordMatch(loginResquest.getPassword(), user.getPassword())) {
+      userService.replacePassword(user, passwordEncoder.encode(loginResquest.getPassword()));
+    } else {
+      passwordEncoder.matches(loginResquest.getPassword(), dummyPasswordHash());
       ApplicationExceptions.authFailedException();
     }
 
-    UserAuth userAuth = userService.findByLogin(loginResquest.getLogin())
-        .map(userFound -> UserAuth.builder()
-            .id(userFound.getId())
-            .login(userFound.getLogin())
-            .password(userFound.getPassword())
-            .name(userFound.getName())
-            .build())
-        .orElseThrow();
+    UserAuth userAuth = UserAuth.builder()
+        .id(user.getId())
+        .login(user.getLogin())
+        .password(user.getPassword())
+        .name(user.getName())
+        .build();
 
-    String token = jwtService.getToken(Map.of("userId", userAuth.getId()), userAuth);
+    String token = jwtService.getUserToken(userAuth);
     return AuthToken.builder()
         .token(token)
         .build();
   }
 
-  /**
-   * Updates the password of a user in the database and returns the updated user object.
-   *
-   * @param  user      the user object whose password needs to be updated
-   * @param  password  the new password to be set for the user
-   * @return           the updated user object with the new password
-   */
-  private User updatePassword(User user, String password) {
-    User updatedUser = User.builder().
-        id(user.getId()).
-        name(user.getName()).
-        login(user.getLogin()).
-        password(passwordEncoder.encode(password)).build();
-    return userService.update(user.getId(), updatedUser);
-  }
-
   /**
    * Registers a new user with the provided request and returns an authentication response containing a JWT token.
    *
@@ -100,7 +92,7 @@ public class AuthService {
             .password(passwordEncoder.encode(request.getPassword()))
         .build());
     return AuthToken.builder()
-        .token(jwtService.getToken(UserAuth.builder()
+        .token(jwtService.getUserToken(UserAuth.builder()
             .id(user.getId())
             .name(user.getName())
             .login(user.getLogin())
@@ -121,10 +113,9 @@ public class AuthService {
   public AuthTokenResponse token(AuthToken authToken) {
 
       try {
-          String username = jwtService.getUsernameFromToken(authToken.getToken());
-          UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-          if (jwtService.isTokenValid(authToken.getToken(), userDetails)) {
-            User userAuthenticated = userService.findByLogin(username).orElseThrow(UserNotFoundException::new);
+          VerifiedToken verifiedToken = jwtService.verify(authToken.getToken());
+          UserAuth userAuthenticated = principalResolver.resolve(verifiedToken);
+          if (jwtService.isTokenValid(verifiedToken, userAuthenticated)) {
             return AuthTokenResponse.builder()
                     .id(userAuthenticated.getId())
                     .name(userAuthenticated.getName())
@@ -141,4 +132,30 @@ public class AuthService {
           throw new AuthFailedException();
       }
   }
+
+  /**
+   * Compares a raw password with a legacy plain text one in constant time.
+   *
+   * @param  rawPassword     the password sent by the client
+   * @param  legacyPassword  the plain text password stored for the user
+   * @return                 true if both are equal
+   */
+  private static boolean isLegacyPasswordMatch(String rawPassword, String legacyPassword) {
+    return rawPassword != null && MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+        legacyPassword.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns a hash of a random password, computed once with the same encoder as the stored passwords.
+   *
+   * @return the dummy hash unknown logins are checked against
+   */
+  private String dummyPasswordHash() {
+    String hash = dummyPasswordHash;
+    if (hash == null) {
+      hash = passwordEncoder.encode(UUID.randomUUID().toString());
+      dummyPasswordHash = hash;
+    }
+    return hash;
+  }
 }
@@ -0,0 +1,170 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.domain.exceptions.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The BoundedPasswordEncoder class runs a CPU-bound PasswordEncoder (BCrypt) on a dedicated, fixed-size thread pool.
+ * <p>
+ * Request threads hand the hashing work to the pool and wait for the result, so a burst of logins can use at most
+ * the configured number of cores and cannot starve the request threads serving cheap reads. The pool has a bounded
+ * queue; when it is full the call fails fast with a {@link PasswordHashingUnavailableException}, which is answered
+ * with 503 Service Unavailable. The pool is published as "password-hashing" executor metrics.
+ * <p>
+ * The pool threads are platform threads even when requests run on virtual threads, so any number of concurrent
+ * logins still hashes on at most the configured number of cores.
+ * <p>
+ * Bulk hashing through {@link #encodeAll(List)} keeps at most one task per pool thread in flight, so a large import
+ * keeps every hashing thread busy without filling the queue that interactive logins rely on.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Semaphore bulkPermits;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+    threadFactory.setDaemon(true);
+    this.delegate = delegate;
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    this.bulkPermits = new Semaphore(threads);
+    new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty()).bindTo(meterRegistry);
+  }
+
+  /**
+   * Hashes the raw password on the hashing pool.
+   *
+   * @param  rawPassword  the password to hash
+   * @return              the encoded password
+   * @throws PasswordHashingUnavailableException if the hashing pool is saturated
+   */
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> delegate.encode(rawPassword));
+  }
+
+  /**
+   * Verifies the raw password against the encoded one on the hashing pool.
+   *
+   * @param  rawPassword      the password to verify
+   * @param  encodedPassword  the stored encoded password
+   * @return                  true if the passwords match, false otherwise
+   * @throws PasswordHashingUnavailableException if the hashing pool is saturated
+   */
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Hashes many raw passwords in parallel on the hashing pool, waiting for a free hashing thread instead of
+   * queueing them all at once.
+   *
+   * @param  rawPasswords  the passwords to hash
+   * @return               the encoded passwords, in the same order
+   * @throws PasswordHashingUnavailableException if the queue is full or the waiting thread is interrupted
+   */
+  public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+    List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+    try {
+      for (CharSequence rawPassword : rawPasswords) {
+        bulkPermits.acquire();
+        try {
+          futures.add(executor.submit(() -> {
+            try {
+              return delegate.encode(rawPassword);
+            } finally {
+              bulkPermits.release();
+            }
+          }));
+        } catch (RejectedExecutionException e) {
+          bulkPermits.release();
+          throw new PasswordHashingUnavailableException();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new PasswordHashingUnavailableException();
+    } catch (PasswordHashingUnavailableException e) {
+      futures.forEach(future -> future.cancel(true));
+      throw e;
+    }
+
+    List<String> encoded = new ArrayList<>(futures.size());
+    for (Future<String> future : futures) {
+      encoded.add(await(future));
+    }
+    return encoded;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * Shuts down the hashing pool when the application context is closed.
+   */
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  /**
+   * Runs a task on the hashing pool and waits for its result.
+   *
+   * @param  task  the hashing task
+   * @return       the result of the task
+   * @throws PasswordHashingUnavailableException if the queue is full or the waiting thread is interrupted
+   */
+  private <T> T execute(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      throw new PasswordHashingUnavailableException();
+    }
+    return await(future);
+  }
+
+  /**
+   * Waits for a task submitted to the hashing pool.
+   *
+   * @param  future  the submitted task
+   * @return         the result of the task
+   * @throws PasswordHashingUnavailableException if the waiting thread is interrupted
+   */
+  private <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new PasswordHashingUnavailableException();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.domain.model.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The CachingUserDetailsService class keeps recently loaded users in a bounded in-process cache keyed by login.
+ * <p>
+ * Entries expire after a fixed time to live or when the cache is full. Whenever the UserService updates or deletes
+ * a user, the matching entries are dropped synchronously through {@link UserChangedEvent}, so this node never serves
+ * a changed password or a deleted user from the cache. Hits, misses and load times are published as
+ * "users.user-details" cache metrics.
+ */
+public class CachingUserDetailsService implements UserDetailsService {
+
+  private final UserDetailsService delegate;
+  private final LoadingCache<String, UserDetails> cache;
+  private final AtomicLong changes = new AtomicLong();
+
+  public CachingUserDetailsService(UserDetailsService delegate, long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build(delegate::loadUserByUsername);
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "users.user-details");
+  }
+
+  /**
+   * Returns the cached user for the given login, loading it from the delegate on a miss.
+   * <p>
+   * The user is loaded by the cache itself, with the delegate as its loader, so the cache metrics include the time
+   * and outcome of every load. A load that raced with a user change is not kept, so a stale user cannot stay cached after its entry was
+   * dropped.
+   *
+   * @param  username  the login of the user
+   * @return           the user details
+   * @throws UsernameNotFoundException if the user does not exist; misses are not cached
+   */
+  @Override
+  public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    long stamp = changes.get();
+    UserDetails user = cache.get(username);
+    if (changes.get() != stamp) {
+      cache.invalidate(username);
+    }
+    return user;
+  }
+
+  /**
+   * Drops every cached entry of a user that was updated or deleted.
+   *
+   * @param  event  the change published by the UserService
+   */
+  @EventListener
+  public void onUserChanged(UserChangedEvent event) {
+    changes.incrementAndGet();
+    if (event.getLogin() != null) {
+      cache.invalidate(event.getLogin());
+    }
+    cache.asMap().values().removeIf(user ->
+        user instanceof UserAuth userAuth && event.getId().equals(userAuth.getId()));
+  }
+}
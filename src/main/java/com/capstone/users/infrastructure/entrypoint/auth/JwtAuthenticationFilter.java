@@ -5,23 +5,53 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
 
 @Component
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+  /**
+   * The path patterns of the routes that are open to everyone, shared with the reactive security configuration.
+   */
+  public static final String[] PUBLIC_PATHS = {"/api/v1/users/auth/**", "/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**"};
+
+  /**
+   * The routes that are open to everyone. SecurityConfig permits exactly these, and the filter does not run for them.
+   */
+  public static final RequestMatcher PUBLIC_ROUTES = new OrRequestMatcher(
+      Arrays.stream(PUBLIC_PATHS).<RequestMatcher>map(path -> antMatcher(path)).toList());
+
   private final JwtService jwtService;
-  private final UserDetailsService userDetailsService;
+  private final PrincipalResolver principalResolver;
+  private final VerifiedTokenCache verifiedTokenCache;
+
+  /**
+   * Skips the filter for the {@link #PUBLIC_ROUTES}, so public requests such as logins do not pay for token handling.
+   *
+   * @param  request  the HTTP servlet request
+   * @return          true if the request targets a public route
+   */
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return PUBLIC_ROUTES.matches(request);
+  }
 
   /**
    * Filters the HTTP request and performs authentication based on the JWT token.
@@ -36,43 +66,53 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
 
-    String requestURI = request.getRequestURI();
-
-    if (requestURI.startsWith("/swagger-ui") ||
-            requestURI.startsWith("/v3/api-docs") ||
-            requestURI.startsWith("/swagger-ui.html")) {
-      filterChain.doFilter(request, response);
-      return;
-    }
-
     final String token = getTokenFromRequest(request);
-    final String username;
+    final VerifiedToken verifiedToken;
     if (token == null) {
       response.setStatus(401);
       filterChain.doFilter(request, response);
       return;
+    }
+    if (SecurityContextHolder.getContext().getAuthentication() == null) {
+      VerifiedTokenCache.CachedAuthentication cached = verifiedTokenCache.get(token);
+      if (cached != null) {
+        authenticate(cached.getPrincipal(), request);
+        filterChain.doFilter(request, response);
+        return;
+      }
     }
       try {
-          username = jwtService.getUsernameFromToken(token);
+          verifiedToken = jwtService.verify(token);
       } catch (Exception e) {
         response.setStatus(401);
         filterChain.doFilter(request, response);
         return;
       }
-      if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-      if (jwtService.isTokenValid(token, userDetails)) {
-        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-            userDetails,
-            null,
-            userDetails.getAuthorities());
-        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        SecurityContextHolder.getContext().setAuthentication(authToken);
+      if (verifiedToken.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+      UserDetails userDetails = principalResolver.resolve(verifiedToken);
+      if (jwtService.isTokenValid(verifiedToken, userDetails)) {
+        verifiedTokenCache.put(verifiedToken, userDetails);
+        authenticate(userDetails, request);
       }
     }
     filterChain.doFilter(request, response);
   }
 
+  /**
+   * Stores an authenticated token for the given user in the security context of the current request.
+   *
+   * @param  userDetails  the authenticated user
+   * @param  request      the HTTP servlet request
+   */
+  private void authenticate(UserDetails userDetails, HttpServletRequest request) {
+    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+        userDetails,
+        null,
+        userDetails.getAuthorities());
+    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    SecurityContextHolder.getContext().setAuthentication(authToken);
+  }
+
   /**
    * Retrieves the JWT token from the HTTP request header.
    *
@@ -0,0 +1,165 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The JwtKeyRing class holds the HMAC keys used to sign and verify JWT tokens.
+ * <p>
+ * Keys are Base64-decoded once when the ring is loaded and are identified by a key id (kid).
+ * New tokens are signed with the active key and carry its kid in the header; incoming tokens are
+ * verified with the key named by their kid, so several keys can be accepted at the same time while
+ * a rotation is in progress. Tokens without a kid are verified with the active key.
+ * <p>
+ * When "jwt.keys-file" is set, the keys are read from that file instead of the application properties, and
+ * {@link #reload()} reads it again, so keys are rotated without a restart by editing the file and calling the
+ * "jwtkeys" actuator endpoint (see {@link JwtKeysEndpoint}).
+ */
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+  private final JwtProperties properties;
+  private volatile KeySet keySet;
+
+  public JwtKeyRing(JwtProperties properties) {
+    this.properties = properties;
+    reload();
+  }
+
+  /**
+   * Reloads the keys from the key file, or from the application properties when no key file is configured.
+   * If the file cannot be read or holds an invalid key set, the current keys are kept.
+   *
+   * @throws IllegalArgumentException if no keys are found or the active key id is not one of them
+   * @throws UncheckedIOException     if the key file cannot be read
+   */
+  public void reload() {
+    if (!StringUtils.hasText(properties.getKeysFile())) {
+      reload(properties.getKeys(), properties.getActiveKeyId());
+      return;
+    }
+    JwtProperties fileProperties = readKeysFile(Path.of(properties.getKeysFile()));
+    reload(fileProperties.getKeys(), fileProperties.getActiveKeyId());
+  }
+
+  /**
+   * Replaces the keys of the ring without restarting the application.
+   * The new set is built completely before it is published, so concurrent requests see either the old or the new set.
+   *
+   * @param  encodedKeys  the Base64-encoded secrets indexed by key id
+   * @param  activeKeyId  the id of the key used to sign new tokens
+   * @throws IllegalArgumentException if no keys are given or the active key id is not one of them
+   */
+  public void reload(Map<String, String> encodedKeys, String activeKeyId) {
+    if (encodedKeys == null || encodedKeys.isEmpty()) {
+      throw new IllegalArgumentException("At least one JWT signing key must be configured");
+    }
+    if (!encodedKeys.containsKey(activeKeyId)) {
+      throw new IllegalArgumentException("Active JWT key id '" + activeKeyId + "' is not a configured key");
+    }
+    Map<String, Key> keys = new HashMap<>();
+    encodedKeys.forEach((keyId, secret) -> keys.put(keyId, Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret))));
+    this.keySet = new KeySet(activeKeyId, Map.copyOf(keys));
+  }
+
+  /**
+   * Returns the id of the key that signs new tokens.
+   *
+   * @return the active key id
+   */
+  public String getActiveKeyId() {
+    return keySet.activeKeyId;
+  }
+
+  /**
+   * Returns the ids of every key accepted when verifying tokens.
+   *
+   * @return the key ids
+   */
+  public Set<String> getKeyIds() {
+    return keySet.keys.keySet();
+  }
+
+  /**
+   * Signs the given builder with the active key and sets the matching kid header.
+   *
+   * @param  builder  the JWT builder to sign
+   * @return          the same builder, ready to be compacted
+   */
+  public JwtBuilder signWith(JwtBuilder builder) {
+    KeySet current = keySet;
+    return builder
+        .setHeaderParam(JwsHeader.KEY_ID, current.activeKeyId)
+        .signWith(current.keys.get(current.activeKeyId), SignatureAlgorithm.HS256);
+  }
+
+  /**
+   * Returns the key that verifies a token, based on the kid found in its header.
+   *
+   * @param  header  the header of the token being parsed
+   * @param  claims  the claims of the token being parsed
+   * @return         the key registered for the token's kid, or the active key if the token has no kid
+   * @throws JwtException if the kid does not match any configured key
+   */
+  @Override
+  public Key resolveSigningKey(JwsHeader header, Claims claims) {
+    KeySet current = keySet;
+    String keyId = header.getKeyId();
+    if (keyId == null) {
+      return current.keys.get(current.activeKeyId);
+    }
+    Key key = current.keys.get(keyId);
+    if (key == null) {
+      throw new JwtException("Unknown JWT signing key id: " + keyId);
+    }
+    return key;
+  }
+
+  /**
+   * Reads a key file written like application.properties, with "jwt.active-key-id" and "jwt.keys.*" entries.
+   */
+  private static JwtProperties readKeysFile(Path file) {
+    Properties entries = new Properties();
+    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      entries.load(reader);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read the JWT key file " + file, e);
+    }
+    return new Binder(new MapConfigurationPropertySource(entries))
+        .bind("jwt", JwtProperties.class)
+        .orElseGet(JwtProperties::new);
+  }
+
+  private static final class KeySet {
+    private final String activeKeyId;
+    private final Map<String, Key> keys;
+
+    private KeySet(String activeKeyId, Map<String, Key> keys) {
+      this.activeKeyId = activeKeyId;
+      this.keys = keys;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The JwtKeysEndpoint class exposes the JWT key ring as the "jwtkeys" actuator endpoint.
+ * <p>
+ * A GET lists the active key id and every accepted key id, never the secrets. A POST reloads the ring from
+ * "jwt.keys-file", which is how keys are rotated on a running node. The new keys only come from that file, so a
+ * caller can make the node pick up what the operator wrote there but cannot supply keys of its own.
+ */
+@Component
+@Endpoint(id = "jwtkeys")
+@RequiredArgsConstructor
+public class JwtKeysEndpoint {
+
+  private final JwtKeyRing keyRing;
+
+  /**
+   * Returns the ids of the keys currently in use.
+   *
+   * @return the active key id and the ids of every key accepted for verification
+   */
+  @ReadOperation
+  public Map<String, Object> keys() {
+    return Map.of("activeKeyId", keyRing.getActiveKeyId(), "keyIds", new TreeSet<>(keyRing.getKeyIds()));
+  }
+
+  /**
+   * Reloads the keys from the key file. If the file is unreadable or invalid, the current keys are kept.
+   *
+   * @return the key ids in use after the reload
+   */
+  @WriteOperation
+  public Map<String, Object> reload() {
+    keyRing.reload();
+    return keys();
+  }
+}
@@ -1,14 +1,11 @@
 package com.capstone.users.infrastructure.entrypoint.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,12 +13,47 @@ import java.util.function.Function;
 
 @Service
 public class JwtService {
-  private static final String SECRET_KEY = "VGhpcyBpcyBhIHZhbGlkIHNlY3JldCBrZXkgZm9yIEpXVCBzaWduaW5nIHdpdGggSFMyNTYhISEh";
+  public static final String USER_ID_CLAIM = "userId";
+  public static final String NAME_CLAIM = "name";
+  public static final String LOGIN_CLAIM = "login";
+
+  private final JwtKeyRing keyRing;
+  private final JwtParser parser;
+
+  /**
+   * Creates the service with a single parser that is built once and shared by every request.
+   * The parser resolves the verification key from the token's kid header through the key ring,
+   * so rotating keys in the ring does not require rebuilding it.
+   *
+   * @param keyRing the configured signing keys
+   */
+  public JwtService(JwtKeyRing keyRing) {
+    this.keyRing = keyRing;
+    this.parser = Jwts
+        .parserBuilder()
+        .setSigningKeyResolver(keyRing)
+        .build();
+  }
 
   public String getToken(UserDetails user) {
     return getToken(new HashMap<>(), user);
   }
 
+  /**
+   * Generates a JWT token that carries the id, name and login of the user as claims,
+   * so the principal can be rebuilt from the token alone.
+   *
+   * @param user  the authenticated user
+   * @return      the generated JWT token
+   */
+  public String getUserToken(UserAuth user) {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put(USER_ID_CLAIM, user.getId());
+    claims.put(NAME_CLAIM, user.getName());
+    claims.put(LOGIN_CLAIM, user.getLogin());
+    return getToken(claims, user);
+  }
+
   /**
    * Generates a JWT token with the given extra claims and user details.
    *
@@ -30,24 +62,30 @@ public class JwtService {
    * @return                the generated JWT token
    */
   public String getToken(Map<String, Object> extraClaims, UserDetails user) {
-    return Jwts
+    return keyRing.signWith(Jwts
         .builder()
         .setClaims(extraClaims)
         .setSubject(user.getUsername())
         .setIssuedAt(new Date(System.currentTimeMillis()))
-        .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 24))
-        .signWith(getKey(), SignatureAlgorithm.HS256)
+        .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 24)))
         .compact();
   }
 
   /**
-   * Returns a Key object that can be used for HMAC-SHA encryption.
+   * Parses the given JWT token, verifies its signature and expiration once, and returns the result.
    *
-   * @return a Key object generated from the base64-decoded SECRET_KEY
+   * @param  token  the JWT token to verify
+   * @return        the verified token with its subject, expiration and claims
+   * @throws io.jsonwebtoken.JwtException if the token is malformed, has an invalid signature or has expired
    */
-  private Key getKey() {
-    byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-    return Keys.hmacShaKeyFor(keyBytes);
+  public VerifiedToken verify(String token) {
+    final Claims claims = getAllClaims(token);
+    return VerifiedToken.builder()
+        .token(token)
+        .subject(claims.getSubject())
+        .expiration(claims.getExpiration())
+        .claims(claims)
+        .build();
   }
 
   /**
@@ -57,7 +95,7 @@ public class JwtService {
    * @return        the username extracted from the token
    */
   public String getUsernameFromToken(String token) {
-    return getClaim(token, Claims::getSubject);
+    return verify(token).getSubject();
   }
 
   /**
@@ -68,8 +106,20 @@ public class JwtService {
    * @return             true if the token is valid and belongs to the user, false otherwise
    */
   public boolean isTokenValid(String token, UserDetails userDetails) {
-    final String username = getUsernameFromToken(token);
-    return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    return isTokenValid(verify(token), userDetails);
+  }
+
+  /**
+   * Checks if an already verified JWT token is valid for a given user, without parsing it again.
+   *
+   * @param  verifiedToken the token returned by {@link #verify(String)}
+   * @param  userDetails   the user details to compare against the token
+   * @return               true if the token belongs to the user and has not expired, false otherwise
+   */
+  public boolean isTokenValid(VerifiedToken verifiedToken, UserDetails userDetails) {
+    return verifiedToken.getSubject() != null
+        && verifiedToken.getSubject().equals(userDetails.getUsername())
+        && !verifiedToken.isExpired();
   }
 
   /**
@@ -79,10 +129,7 @@ public class JwtService {
    * @return        the claims extracted from the token
    */
   private Claims getAllClaims(String token) {
-    return Jwts
-        .parserBuilder()
-        .setSigningKey(getKey())
-        .build()
+    return parser
         .parseClaimsJws(token)
         .getBody();
   }
@@ -95,28 +142,7 @@ public class JwtService {
    * @return                the value of the specified claim
    */
   public <T> T getClaim(String token, Function<Claims, T> claimsResolver) {
-    final Claims claims = getAllClaims(token);
-    return claimsResolver.apply(claims);
-  }
-
-  /**
-   * Retrieves the expiration date from a JWT token.
-   *
-   * @param  token  the JWT token to extract the expiration date from
-   * @return        the expiration date extracted from the token
-   */
-  private Date getExpiration(String token) {
-    return getClaim(token, Claims::getExpiration);
-  }
-
-  /**
-   * Checks if a JWT token has expired by comparing its expiration date with the current date.
-   *
-   * @param  token  the JWT token to check for expiration
-   * @return        true if the token has expired, false otherwise
-   */
-  private boolean isTokenExpired(String token) {
-    return getExpiration(token).before(new Date());
+    return claimsResolver.apply(verify(token).getClaims());
   }
 
 }
@@ -0,0 +1,196 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.domain.exceptions.TooManyLoginAttemptsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * The LoginRateLimiter class throttles the auth endpoints per remote address and per login, before any password
+ * hashing or database work is done.
+ * <p>
+ * Each key has a token bucket implemented as a generic cell rate algorithm: the bucket is a single AtomicLong holding
+ * the theoretical arrival time of the next request, updated with a compare-and-set loop, so concurrent requests never
+ * take a lock. A key may send "burst" requests at once and then one request per "1 / per-minute" minute. Buckets
+ * are kept in bounded Caffeine caches and dropped once idle for longer than a full refill.
+ * <p>
+ * A request over its address limit throws a {@link TooManyLoginAttemptsException} carrying the seconds until the
+ * address may retry, which is answered with 429 Too Many Requests and a Retry-After header. A login over its limit is
+ * never rejected, since anyone can send attempts for someone else's login: the attempt is delayed until the login's
+ * next token, by at most "login.max-delay", which slows down guessing without locking the owner out. Rejected and
+ * delayed requests are counted in the "users.auth.throttled" metric, tagged by key type, and the number of tracked
+ * keys is published as "users.auth.throttle.keys".
+ * <p>
+ * The limiter is disabled unless "users.auth-rate-limit.enabled" is true. Addresses are only meaningful when they are
+ * the clients' own: behind a proxy or gateway, every request would share its address and the address limit would
+ * become a global one, so a warning is logged when the limiter is enabled without "server.forward-headers-strategy".
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class LoginRateLimiter {
+
+  private final boolean enabled;
+  private final Limit loginLimit;
+  private final Limit addressLimit;
+  private final long loginMaxDelay;
+  private final LongSupplier clock;
+  private final LongConsumer pause;
+  private final long origin;
+
+  @Autowired
+  public LoginRateLimiter(@Value("${users.auth-rate-limit.enabled:false}") boolean enabled,
+                          @Value("${users.auth-rate-limit.login.per-minute:10}") int loginPerMinute,
+                          @Value("${users.auth-rate-limit.login.burst:5}") int loginBurst,
+                          @Value("${users.auth-rate-limit.login.max-delay:1s}") Duration loginMaxDelay,
+                          @Value("${users.auth-rate-limit.address.per-minute:60}") int addressPerMinute,
+                          @Value("${users.auth-rate-limit.address.burst:20}") int addressBurst,
+                          @Value("${users.auth-rate-limit.max-keys:100000}") long maxKeys,
+                          @Value("${server.forward-headers-strategy:none}") String forwardHeadersStrategy,
+                          MeterRegistry meterRegistry) {
+    this(enabled, loginPerMinute, loginBurst, loginMaxDelay, addressPerMinute, addressBurst, maxKeys, meterRegistry,
+        System::nanoTime, LoginRateLimiter::sleep);
+    if (enabled && "none".equalsIgnoreCase(forwardHeadersStrategy.trim())) {
+      log.warn("users.auth-rate-limit is enabled without server.forward-headers-strategy: behind a proxy, every "
+          + "client shares the proxy's address limit");
+    }
+  }
+
+  LoginRateLimiter(boolean enabled, int loginPerMinute, int loginBurst, Duration loginMaxDelay, int addressPerMinute,
+                   int addressBurst, long maxKeys, MeterRegistry meterRegistry, LongSupplier clock, LongConsumer pause) {
+    this.enabled = enabled;
+    this.loginMaxDelay = loginMaxDelay.toNanos();
+    this.clock = clock;
+    this.pause = pause;
+    this.origin = clock.getAsLong();
+    this.loginLimit = new Limit("login", loginPerMinute, loginBurst, maxKeys, meterRegistry);
+    this.addressLimit = new Limit("address", addressPerMinute, addressBurst, maxKeys, meterRegistry);
+  }
+
+  /**
+   * Takes a token for a login attempt from the bucket of the remote address and from the bucket of the login.
+   * When the login's bucket is empty, the attempt is delayed instead of rejected.
+   *
+   * @param  login          the login being tried, or null if the request has none
+   * @param  remoteAddress  the address the request came from
+   * @throws TooManyLoginAttemptsException if the bucket of the address is empty
+   */
+  public void acquireLogin(String login, String remoteAddress) {
+    acquireAddress(remoteAddress);
+    if (enabled && login != null) {
+      long delay = loginLimit.tryAcquire(login, now());
+      if (delay > 0) {
+        pause.accept(Math.min(delay, loginMaxDelay));
+      }
+    }
+  }
+
+  /**
+   * Takes a token for a request that is only limited by its remote address, such as a registration.
+   *
+   * @param  remoteAddress  the address the request came from
+   * @throws TooManyLoginAttemptsException if the bucket is empty
+   */
+  public void acquireAddress(String remoteAddress) {
+    if (enabled && remoteAddress != null) {
+      addressLimit.acquire(remoteAddress, now());
+    }
+  }
+
+  /**
+   * Blocks the current thread for the given time, keeping its interrupt status if it is interrupted.
+   *
+   * @param  nanos  the delay in nanoseconds
+   */
+  private static void sleep(long nanos) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns the time elapsed since the limiter was created, so arrival times are never negative.
+   *
+   * @return the current time in nanoseconds
+   */
+  private long now() {
+    return clock.getAsLong() - origin;
+  }
+
+  /**
+   * The buckets of one kind of key, sharing the same rate and burst.
+   */
+  private static class Limit {
+
+    private final long interval;
+    private final long tolerance;
+    private final Cache<String, AtomicLong> buckets;
+    private final Counter throttled;
+
+    Limit(String keyType, int perMinute, int burst, long maxKeys, MeterRegistry meterRegistry) {
+      this.interval = TimeUnit.MINUTES.toNanos(1) / Math.max(perMinute, 1);
+      this.tolerance = interval * (Math.max(burst, 1) - 1);
+      this.buckets = Caffeine.newBuilder()
+          .maximumSize(maxKeys)
+          .expireAfterAccess(Duration.ofNanos(interval + tolerance))
+          .build();
+      this.throttled = Counter.builder("users.auth.throttled")
+          .tag("key", keyType)
+          .register(meterRegistry);
+      Gauge.builder("users.auth.throttle.keys", buckets, Cache::estimatedSize)
+          .tag("key", keyType)
+          .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the bucket of the key, or throws if the request arrives before the bucket refilled.
+     *
+     * @param  key  the login or address
+     * @param  now  the current time in nanoseconds
+     * @throws TooManyLoginAttemptsException if the bucket is empty
+     */
+    void acquire(String key, long now) {
+      long wait = tryAcquire(key, now);
+      if (wait > 0) {
+        throw new TooManyLoginAttemptsException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999L)));
+      }
+    }
+
+    /**
+     * Takes a token from the bucket of the key if one is available.
+     *
+     * @param  key  the login or address
+     * @param  now  the current time in nanoseconds
+     * @return      0 if a token was taken, otherwise the nanoseconds until the bucket has one
+     */
+    long tryAcquire(String key, long now) {
+      AtomicLong arrival = buckets.get(key, k -> new AtomicLong());
+      while (true) {
+        long expected = arrival.get();
+        long allowedAt = expected - tolerance;
+        if (allowedAt > now) {
+          throttled.increment();
+          return allowedAt - now;
+        }
+        if (arrival.compareAndSet(expected, Math.max(expected, now) + interval)) {
+          return 0;
+        }
+      }
+    }
+  }
+}
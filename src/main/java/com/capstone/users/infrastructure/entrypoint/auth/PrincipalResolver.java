@@ -0,0 +1,62 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * The PrincipalResolver class turns a verified token into the authenticated user of a request.
+ * <p>
+ * In DATABASE mode the user is loaded through the UserDetailsService. In STATELESS mode it is built from the
+ * signed userId, name and login claims, so authenticated requests do not touch the database; tokens issued
+ * before those claims existed still fall back to the database lookup.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class PrincipalResolver {
+
+  private final UserDetailsService userDetailsService;
+  private final JwtProperties jwtProperties;
+
+  /**
+   * Resolves the user a verified token belongs to.
+   *
+   * @param  verifiedToken  the token returned by {@link JwtService#verify(String)}
+   * @return                the user the token belongs to
+   * @throws UsernameNotFoundException if the user has to be loaded from the database and does not exist
+   */
+  public UserAuth resolve(VerifiedToken verifiedToken) {
+    if (jwtProperties.getPrincipalMode() == JwtProperties.PrincipalMode.STATELESS) {
+      UserAuth principal = fromClaims(verifiedToken);
+      if (principal != null) {
+        return principal;
+      }
+    }
+    return (UserAuth) userDetailsService.loadUserByUsername(verifiedToken.getSubject());
+  }
+
+  /**
+   * Builds the user from the claims of the token.
+   *
+   * @param  verifiedToken  the verified token
+   * @return                the user described by the claims, or null if the token does not carry them
+   */
+  static UserAuth fromClaims(VerifiedToken verifiedToken) {
+    Claims claims = verifiedToken.getClaims();
+    String id = claims.get(JwtService.USER_ID_CLAIM, String.class);
+    String login = claims.get(JwtService.LOGIN_CLAIM, String.class);
+    if (id == null || login == null || !login.equals(verifiedToken.getSubject())) {
+      return null;
+    }
+    return UserAuth.builder()
+        .id(id)
+        .name(claims.get(JwtService.NAME_CLAIM, String.class))
+        .login(login)
+        .build();
+  }
+}
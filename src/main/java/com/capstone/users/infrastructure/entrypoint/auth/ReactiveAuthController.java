@@ -0,0 +1,37 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthToken;
+import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthTokenResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * The ReactiveAuthController class serves token introspection on WebFlux, with the "reactive" profile.
+ * Logins and registrations hash passwords with BCrypt and stay on the servlet stack.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("api/v1/users/auth")
+@RequiredArgsConstructor
+@Tag(name = "Auth Controller", description = "Public routes")
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService reactiveAuthService;
+
+    /**
+     * Handles the token request and returns the user the token belongs to.
+     *
+     * @param authToken the AuthToken object containing the token
+     * @return the AuthTokenResponse, or 401 if the token is invalid
+     */
+    @PostMapping(value = "/token")
+    public Mono<AuthTokenResponse> token(@RequestBody AuthToken authToken) {
+        return reactiveAuthService.token(authToken);
+    }
+}
@@ -0,0 +1,94 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import com.capstone.users.domain.exceptions.userExceptions.AuthFailedException;
+import com.capstone.users.domain.service.ReactiveUserService;
+import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthToken;
+import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthTokenResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * The ReactiveAuthService class verifies tokens without blocking, for the "reactive" profile.
+ * <p>
+ * Tokens are verified in memory by the {@link JwtService} and the {@link VerifiedTokenCache} is consulted first, as
+ * in the servlet stack. The user is then built from the token claims in stateless mode, or loaded through the
+ * {@link ReactiveUserService} in database mode, so resolving a principal never blocks an event-loop thread.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAuthService {
+
+  private final JwtService jwtService;
+  private final JwtProperties jwtProperties;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final ReactiveUserService userService;
+
+  /**
+   * Verifies a token and resolves the user it belongs to.
+   *
+   * @param  token  the raw JWT token
+   * @return        the user the token belongs to, or an {@link AuthFailedException} error if the token is invalid,
+   *                expired, or its user does not exist
+   */
+  public Mono<UserAuth> authenticate(String token) {
+    VerifiedTokenCache.CachedAuthentication cached = verifiedTokenCache.get(token);
+    if (cached != null && cached.getPrincipal() instanceof UserAuth userAuth) {
+      return Mono.just(userAuth);
+    }
+
+    VerifiedToken verifiedToken;
+    try {
+      verifiedToken = jwtService.verify(token);
+    } catch (RuntimeException e) {
+      return Mono.error(new AuthFailedException());
+    }
+    return resolve(verifiedToken)
+        .filter(userAuth -> jwtService.isTokenValid(verifiedToken, userAuth))
+        .doOnNext(userAuth -> verifiedTokenCache.put(verifiedToken, userAuth))
+        .switchIfEmpty(Mono.error(AuthFailedException::new));
+  }
+
+  /**
+   * Validates the token and returns the user details if the token is valid.
+   *
+   * @param  authToken  the authentication token containing the JWT token
+   * @return            the user details if the token is valid, or an {@link AuthFailedException} error otherwise
+   */
+  public Mono<AuthTokenResponse> token(AuthToken authToken) {
+    return authenticate(authToken.getToken())
+        .map(userAuth -> AuthTokenResponse.builder()
+            .id(userAuth.getId())
+            .name(userAuth.getName())
+            .login(userAuth.getLogin())
+            .build());
+  }
+
+  /**
+   * Resolves the user a verified token belongs to, the same way as the {@link PrincipalResolver}.
+   *
+   * @param  verifiedToken  the verified token
+   * @return                the user, or an empty Mono if it has to be loaded and does not exist
+   */
+  private Mono<UserAuth> resolve(VerifiedToken verifiedToken) {
+    if (jwtProperties.getPrincipalMode() == JwtProperties.PrincipalMode.STATELESS) {
+      UserAuth principal = PrincipalResolver.fromClaims(verifiedToken);
+      if (principal != null) {
+        return Mono.just(principal);
+      }
+    }
+    if (verifiedToken.getSubject() == null) {
+      return Mono.empty();
+    }
+    return userService.findByLogin(verifiedToken.getSubject())
+        .map(user -> UserAuth.builder()
+            .id(user.getId())
+            .name(user.getName())
+            .login(user.getLogin())
+            .password(user.getPassword())
+            .build());
+  }
+}
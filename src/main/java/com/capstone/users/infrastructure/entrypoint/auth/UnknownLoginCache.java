@@ -0,0 +1,111 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.domain.model.UserChangedEvent;
+import com.capstone.users.domain.model.UserCreatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The UnknownLoginCache class remembers logins that were recently looked up and did not exist, so repeated login
+ * attempts with them do not reach the database.
+ * <p>
+ * Credential-stuffing traffic mostly uses logins that do not exist; each of them is queried once and then answered
+ * from this bounded cache until its entry expires. Whenever the UserService creates a user or gives a user a new
+ * login, the login is dropped synchronously through {@link UserCreatedEvent} and {@link UserChangedEvent}. A lookup
+ * that raced with such a write does not store its result, so this node never rejects a login that exists. Users
+ * created through other nodes can be rejected here until the entry expires, which the short TTL bounds.
+ * Hits and misses are published as "users.unknown-logins" cache metrics.
+ * <p>
+ * The cache is disabled unless "users.unknown-login-cache.enabled" is true; when disabled every lookup is run.
+ */
+@Component
+@Profile("!reactive")
+public class UnknownLoginCache {
+
+  private final boolean enabled;
+  private final Cache<String, Boolean> cache;
+  private final AtomicLong writes = new AtomicLong();
+
+  public UnknownLoginCache(@Value("${users.unknown-login-cache.enabled:false}") boolean enabled,
+                           @Value("${users.unknown-login-cache.max-size:100000}") long maxSize,
+                           @Value("${users.unknown-login-cache.ttl:1m}") Duration ttl,
+                           MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    if (enabled) {
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, "users.unknown-logins");
+    }
+  }
+
+  /**
+   * Looks up a login, unless it is known not to exist.
+   *
+   * @param  login   the login to look up
+   * @param  loader  loads the user by login, returning an empty Optional if it does not exist
+   * @return         the loaded user, or an empty Optional if the login does not exist
+   */
+  public <T> Optional<T> lookup(String login, Function<String, Optional<T>> loader) {
+    if (!enabled || login == null) {
+      return loader.apply(login);
+    }
+    if (cache.getIfPresent(login) != null) {
+      return Optional.empty();
+    }
+    long stamp = writes.get();
+    Optional<T> user = loader.apply(login);
+    if (user.isEmpty()) {
+      cache.put(login, Boolean.TRUE);
+      if (writes.get() != stamp) {
+        cache.invalidate(login);
+      }
+    }
+    return user;
+  }
+
+  /**
+   * Drops the login of a user that was created.
+   *
+   * @param  event  the creation published by the UserService
+   */
+  @EventListener
+  public void onUserCreated(UserCreatedEvent event) {
+    forget(event.getLogin());
+  }
+
+  /**
+   * Drops the new login of a user that was updated.
+   *
+   * @param  event  the change published by the UserService
+   */
+  @EventListener
+  public void onUserChanged(UserChangedEvent event) {
+    forget(event.getLogin());
+  }
+
+  /**
+   * Marks a write before dropping the login, so a lookup that read the table before the write cannot store it again.
+   *
+   * @param  login  the login that now exists, or null
+   */
+  private void forget(String login) {
+    writes.incrementAndGet();
+    if (login != null) {
+      cache.invalidate(login);
+    }
+  }
+}
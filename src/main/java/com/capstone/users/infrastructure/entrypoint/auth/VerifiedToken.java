@@ -0,0 +1,32 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+
+/**
+ * The VerifiedToken class holds the result of parsing and verifying a JWT token a single time.
+ * <p>
+ * Once a token has passed signature and expiration checks in {@link JwtService#verify(String)},
+ * callers read the subject, expiration and any other claim from this object instead of parsing
+ * the raw token again.
+ */
+@Value
+@Builder
+public class VerifiedToken {
+  String token;
+  String subject;
+  Date expiration;
+  Claims claims;
+
+  /**
+   * Checks if the token has expired by comparing its expiration date with the current date.
+   *
+   * @return true if the token has expired, false otherwise
+   */
+  public boolean isExpired() {
+    return expiration != null && expiration.before(new Date());
+  }
+}
@@ -0,0 +1,151 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.domain.model.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The VerifiedTokenCache class remembers tokens that already passed verification, together with the user they resolved to.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token, so raw tokens are never kept in memory as map keys.
+ * Each entry expires at the token's own expiration date and the cache is bounded by size. Hits, misses and
+ * evictions are published as "jwt.verified-tokens" cache metrics.
+ * <p>
+ * Entries of a user that is updated or deleted are dropped synchronously through {@link UserChangedEvent}.
+ * <p>
+ * The cache is disabled unless "jwt.cache.enabled" is true; when disabled every lookup is a miss and nothing is stored.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final boolean enabled;
+  private final Cache<String, CachedAuthentication> cache;
+
+  public VerifiedTokenCache(@Value("${jwt.cache.enabled:false}") boolean enabled,
+                            @Value("${jwt.cache.max-size:10000}") long maxSize,
+                            MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new UntilTokenExpiration())
+        .recordStats()
+        .build();
+    if (enabled) {
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+  }
+
+  /**
+   * Returns the cached verification result for a token.
+   *
+   * @param  token  the raw JWT token
+   * @return        the cached result, or null if the cache is disabled or the token was not seen before
+   */
+  public CachedAuthentication get(String token) {
+    if (!enabled) {
+      return null;
+    }
+    CachedAuthentication cached = cache.getIfPresent(digest(token));
+    if (cached == null || cached.getVerifiedToken().isExpired()) {
+      return null;
+    }
+    return cached;
+  }
+
+  /**
+   * Stores a verified token and the user it resolved to until the token expires.
+   *
+   * @param  verifiedToken  the token returned by {@link JwtService#verify(String)}
+   * @param  principal      the user the token belongs to
+   */
+  public void put(VerifiedToken verifiedToken, UserDetails principal) {
+    if (!enabled || verifiedToken.getExpiration() == null) {
+      return;
+    }
+    cache.put(digest(verifiedToken.getToken()), new CachedAuthentication(verifiedToken, principal));
+  }
+
+  /**
+   * Drops every cached token of a user that was updated or deleted.
+   *
+   * @param  event  the change published by the UserService
+   */
+  @EventListener
+  public void onUserChanged(UserChangedEvent event) {
+    cache.asMap().values().removeIf(cached ->
+        (cached.getPrincipal() instanceof UserAuth userAuth && event.getId().equals(userAuth.getId()))
+            || cached.getPrincipal().getUsername().equals(event.getLogin()));
+  }
+
+  /**
+   * Returns the hit, miss and eviction counters of the cache.
+   *
+   * @return the cache statistics
+   */
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  /**
+   * Computes the cache key of a token as the Base64-encoded SHA-256 digest of the token string.
+   *
+   * @param  token  the raw JWT token
+   * @return        the digest of the token
+   */
+  private String digest(String token) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * A verified token and the user it resolved to.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class CachedAuthentication {
+    private final VerifiedToken verifiedToken;
+    private final UserDetails principal;
+  }
+
+  /**
+   * Expires each entry at the expiration date of its token.
+   */
+  private static class UntilTokenExpiration implements Expiry<String, CachedAuthentication> {
+
+    @Override
+    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+      long remainingMillis = value.getVerifiedToken().getExpiration().getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
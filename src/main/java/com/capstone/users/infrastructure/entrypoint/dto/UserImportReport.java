@@ -0,0 +1,25 @@
+package com.capstone.users.infrastructure.entrypoint.dto;
+
+import com.capstone.users.domain.model.UserImportResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportReport {
+    int total;
+    int created;
+    int failed;
+    List<UserImportResult> rows;
+
+    public static UserImportReport of(List<UserImportResult> rows) {
+        int created = (int) rows.stream().filter(row -> row.getStatus() == UserImportResult.Status.CREATED).count();
+        return new UserImportReport(rows.size(), created, rows.size() - created, rows);
+    }
+}
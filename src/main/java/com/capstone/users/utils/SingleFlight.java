@@ -0,0 +1,82 @@
+package com.capstone.users.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * The SingleFlight class makes concurrent calls for the same key share one execution.
+ * <p>
+ * The first caller for a key runs the loader; callers that arrive while it is running wait for and receive the same
+ * result, or the same exception. Once the load completes the key is released, so later calls run a fresh load:
+ * nothing is cached. In-flight loads are kept in a ConcurrentHashMap, so callers only contend with callers of
+ * keys hashing to the same bin, never on a global lock.
+ * <p>
+ * A load that started before a write may return data the write replaced. {@link #forget(Object)} releases the key
+ * while such a load is still running, so callers that arrive after the write start a new load instead of joining it;
+ * callers that already joined still receive the running load's result.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the loader for the key, or waits for the load already running for it.
+     *
+     * @param key    the key being loaded
+     * @param loader loads the value; only run if no load is in flight for the key
+     * @return the loaded value, shared by every caller of the same flight
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Releases the key of a load in flight, so the next call for it runs a new load.
+     *
+     * @param key the key to release; nothing happens if no load is in flight for it
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Releases every key with a load in flight.
+     */
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- Converts users.id from its VARCHAR(36) text form to BINARY(16).
+-- Existing ids keep their value: UUID_TO_BIN stores the UUID bytes in the same big-endian order the application
+-- uses, so ids handed out before the migration keep working. Run once with the application stopped (MySQL 8+).
+
+ALTER TABLE `users` ADD COLUMN `id_bin` BINARY(16) NULL;
+
+UPDATE `users` SET `id_bin` = UUID_TO_BIN(`id`);
+
+ALTER TABLE `users`
+  DROP PRIMARY KEY,
+  DROP INDEX `id_UNIQUE`,
+  DROP COLUMN `id`;
+
+ALTER TABLE `users` RENAME COLUMN `id_bin` TO `id`;
+
+ALTER TABLE `users`
+  MODIFY `id` BINARY(16) NOT NULL,
+  ADD PRIMARY KEY (`id`);
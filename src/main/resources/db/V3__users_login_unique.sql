@@ -0,0 +1,14 @@
+-- Adds the unique key on users.login that registration and updates rely on to reject a login already in use.
+-- Tables created from the original DDL only had id_UNIQUE, so they may already hold duplicate logins: every user but
+-- the oldest of each login (lowest id) is moved to users_duplicate_logins for review before the key is added.
+-- Skip this script if SHOW INDEX FROM users already lists a unique index on login alone. Run once with the
+-- application stopped (MySQL 8+).
+
+CREATE TABLE `users_duplicate_logins` AS
+  SELECT `u`.* FROM `users` `u`
+  JOIN (SELECT `login`, MIN(`id`) AS `kept_id` FROM `users` GROUP BY `login` HAVING COUNT(*) > 1) `d`
+    ON `d`.`login` = `u`.`login` AND `u`.`id` <> `d`.`kept_id`;
+
+DELETE `u` FROM `users` `u` JOIN `users_duplicate_logins` `d` ON `d`.`id` = `u`.`id`;
+
+ALTER TABLE `users` ADD UNIQUE INDEX `login_UNIQUE` (`login` ASC);
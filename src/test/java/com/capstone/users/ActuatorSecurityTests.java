@@ -0,0 +1,54 @@
+package com.capstone.users;
+
+import com.capstone.users.domain.model.User;
+import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks who may reach the actuator endpoints, on a real port with the security filter chains.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ActuatorSecurityTests {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    /**
+     * Tests that a self-registered user can neither read the metrics or the JWT keys nor reload the keys.
+     */
+    @Test
+    void TestActuator_WhenCalledWithAUserToken_ShouldBeForbidden() {
+        User user = User.builder().name("actuator").login("actuator-user").password("secret").build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(restTemplate.postForObject("/api/v1/users/auth/register", user, AuthToken.class).getToken());
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        assertEquals(HttpStatus.FORBIDDEN, restTemplate.exchange("/actuator/jwtkeys", HttpMethod.GET, request, String.class).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, restTemplate.exchange("/actuator/metrics", HttpMethod.GET, request, String.class).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, restTemplate.exchange("/actuator/jwtkeys", HttpMethod.POST, request, String.class).getStatusCode());
+    }
+
+    /**
+     * Tests that the operator account reaches the management endpoints, and that health is open to everyone.
+     */
+    @Test
+    void TestActuator_WhenCalledByTheOperator_ShouldBeAllowed() {
+        TestRestTemplate operator = restTemplate.withBasicAuth("operator", "operator-secret");
+
+        assertEquals(HttpStatus.OK, operator.getForEntity("/actuator/jwtkeys", String.class).getStatusCode());
+        assertEquals(HttpStatus.OK, operator.getForEntity("/actuator/metrics", String.class).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, restTemplate.getForEntity("/actuator/metrics", String.class).getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/actuator/health", String.class).getStatusCode());
+    }
+}
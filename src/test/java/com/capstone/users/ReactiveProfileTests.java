@@ -0,0 +1,56 @@
+package com.capstone.users;
+
+import com.capstone.users.domain.service.ReactiveUserService;
+import com.capstone.users.domain.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the application with the "reactive" profile against an embedded H2 database reached through R2DBC.
+ * <p>
+ * Checks that the profile is served by Reactor Netty, not by Tomcat through the servlet adapter, and that neither
+ * the JDBC/JPA stack nor the blocking beans of the servlet deployment are started.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.r2dbc.url=r2dbc:h2:mem:///reactive-profile;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("reactive")
+class ReactiveProfileTests {
+
+    @Autowired
+    ReactiveWebServerApplicationContext context;
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    /**
+     * Tests that the web server is Netty and that only the reactive read side is loaded.
+     */
+    @Test
+    void TestContext_WhenReactiveProfileIsActive_ShouldRunOnNettyWithoutTheBlockingStack() {
+        assertInstanceOf(NettyWebServer.class, context.getWebServer());
+        assertEquals(1, context.getBeanNamesForType(ReactiveUserService.class).length);
+        assertEquals(0, context.getBeanNamesForType(DataSource.class).length);
+        assertEquals(0, context.getBeanNamesForType(UserService.class).length);
+        assertEquals(0, context.getBeanNamesForType(PasswordEncoder.class).length);
+    }
+
+    /**
+     * Tests that a read endpoint is rejected without a token.
+     */
+    @Test
+    void TestGetUser_WhenNoTokenIsSent_ShouldReturnUnauthorized() {
+        webTestClient.get().uri("/api/v1/users/get/{id}", "01920000-0000-7000-8000-000000000001")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
@@ -0,0 +1,63 @@
+package com.capstone.users;
+
+import com.capstone.users.domain.model.User;
+import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the NDJSON export end to end, on a real port with the security filter chain, against the embedded database.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class UserExportTests {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    /**
+     * Tests that an authenticated client receives the whole export, one user per line and without passwords, even
+     * though the body is written on an asynchronous dispatch.
+     */
+    @Test
+    void TestExport_WhenAuthenticated_ShouldStreamEveryUser() throws Exception {
+        String token = null;
+        for (int i = 0; i < 3; i++) {
+            User user = User.builder().name("export-" + i).login("export-" + i).password("secret").build();
+            token = restTemplate.postForObject("/api/v1/users/auth/register", user, AuthToken.class).getToken();
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        ResponseEntity<String> response = restTemplate.exchange("/api/v1/users/export", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().endsWith("\n"));
+        List<String> logins = new ArrayList<>();
+        for (String line : response.getBody().split("\n")) {
+            JsonNode user = objectMapper.readTree(line);
+            assertFalse(user.has("password"));
+            logins.add(user.get("login").asText());
+        }
+        assertTrue(logins.containsAll(List.of("export-0", "export-1", "export-2")));
+    }
+}
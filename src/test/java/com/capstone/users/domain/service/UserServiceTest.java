@@ -1,19 +1,30 @@
 package com.capstone.users.domain.service;
 
 import com.capstone.users.domain.exceptions.CustomersNotFoundException;
+import com.capstone.users.domain.exceptions.userExceptions.TooManyIdsException;
 import com.capstone.users.domain.exceptions.userExceptions.UserAlreadyExistsException;
 import com.capstone.users.domain.exceptions.userExceptions.UserEmptyDataException;
 import com.capstone.users.domain.exceptions.userExceptions.UserNotFoundException;
 import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserBatch;
+import com.capstone.users.domain.model.UserChangedEvent;
+import com.capstone.users.domain.model.UserCreatedEvent;
+import com.capstone.users.domain.model.UserIdGenerator;
+import com.capstone.users.domain.model.UserImportResult;
+import com.capstone.users.domain.model.UserPage;
 import com.capstone.users.domain.model.UserRepository;
+import com.capstone.users.domain.model.UserSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +42,12 @@ class UserServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    UserIdGenerator userIdGenerator;
+
     @InjectMocks
     UserService userService;
 
@@ -85,13 +102,12 @@ class UserServiceTest {
     void TestSaveUser_WhenLoginExists_ShouldReturnAnException() {
         String name = "testName";
         String existingLogin = "testUser";
-        String password = "testPassword";
-        User existingUser = User.builder().login(existingLogin).name(name).password(password).build();
-        when(userRepository.findByLogin(existingLogin)).thenReturn(Optional.of(existingUser));
+        when(userRepository.save(any(User.class))).thenThrow(new UserAlreadyExistsException());
 
-        User userToRegister = User.builder().login(existingLogin).name("name").password("password").build();
+        User userToRegister = User.builder().login(existingLogin).name(name).password("password").build();
 
         assertThrows(UserAlreadyExistsException.class, () -> userService.save(userToRegister));
+        verify(userRepository, never()).findByLogin(anyString());
     }
 
     /**
@@ -109,12 +125,16 @@ class UserServiceTest {
         String password = "testPassword";
         User user = User.builder().login(login).name(name).password(password).build();
 
-        when(userRepository.findByLogin(login)).thenReturn(Optional.empty());
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
+        when(userIdGenerator.nextId()).thenReturn("generatedId");
+
         User result = userService.save(user);
 
         verify(userRepository, times(1)).save(result);
+        assertEquals("generatedId", result.getId());
+        verify(eventPublisher).publishEvent(new UserCreatedEvent("generatedId", login));
+        verifyNoMoreInteractions(userRepository);
         assertEquals(login, result.getLogin());
         assertEquals(name, result.getName());
         assertEquals(password, result.getPassword());
@@ -170,12 +190,10 @@ class UserServiceTest {
     @Test
     void TestUpdateUser_WhenFieldsAreEmpty_ShouldThrowInvalidUserDataException() {
         String id = "userId";
-        User existingUser = User.builder().id(id).login("testUser").name("testName").password("testPassword").build();
-        when(userRepository.findById(id)).thenReturn(Optional.of(existingUser));
-
         User userToUpdate = User.builder().id(id).login("").name("").password("").build();
 
         assertThrows(UserEmptyDataException.class, () -> userService.update(id, userToUpdate));
+        verifyNoInteractions(userRepository);
     }
 
     /**
@@ -188,44 +206,57 @@ class UserServiceTest {
         String id = "userId";
         User userToUpdate = User.builder().id(id).login("testUser").name("testName").password("testPassword").build();
 
-        when(userRepository.findById(id)).thenReturn(Optional.empty());
+        when(userRepository.update(any(User.class))).thenThrow(new UserNotFoundException());
 
         assertThrows(UserNotFoundException.class, () -> userService.update(id, userToUpdate));
+        verifyNoInteractions(eventPublisher);
     }
 
     /**
      * Tests the behavior of {@link UserService#update(String, User)} when a user exists.
      * <p>
-     * Ensures that the user is updated successfully with new data,
-     * and verifies that the repository's update method is called correctly.
+     * Ensures that the user is updated successfully with new data through a single repository call,
+     * without reading the user first, and that the returned user does not carry the password.
      */
     @Test
     void TestUpdateUser_WhenUserExists_ShouldUpdateUserSuccessfully() {
 
         String id = "userId";
-        String oldName = "oldName";
-        String oldLogin = "oldLogin";
-        String oldPassword = "oldPassword";
-
-        User existingUser = User.builder().id(id).login(oldLogin).name(oldName).password(oldPassword).build();
-
         String newName = "newName";
         String newLogin = "newLogin";
         String newPassword = "newPassword";
 
         User updatedUser = User.builder().id(id).login(newLogin).name(newName).password(newPassword).build();
 
-        when(userRepository.findById(id)).thenReturn(Optional.of(existingUser));
-        when(userRepository.findByLogin(newLogin)).thenReturn(Optional.empty());
         when(userRepository.update(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        User result = userService.update(id, updatedUser);
+        UserSummary result = userService.update(id, updatedUser);
 
-        verify(userRepository, times(1)).update(result);
+        verify(userRepository, times(1)).update(updatedUser);
+        verifyNoMoreInteractions(userRepository);
+        assertEquals(id, result.getId());
 
         assertEquals(newLogin, result.getLogin());
         assertEquals(newName, result.getName());
-        assertEquals(newPassword, result.getPassword());
+    }
+
+    /**
+     * Tests the behavior of {@link UserService#update(String, User)} when the login changes.
+     * <p>
+     * Ensures that a {@link UserChangedEvent} is published with the user's id and new login,
+     * so caches drop the user under both its previous and its new login.
+     */
+    @Test
+    void TestUpdateUser_WhenLoginChanges_ShouldPublishChange() {
+        String id = "userId";
+        User updatedUser = User.builder().id(id).login("newLogin").name("newName").password("newPassword").build();
+
+        when(userRepository.update(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        userService.update(id, updatedUser);
+
+        verify(eventPublisher).publishEvent(new UserChangedEvent(id, "newLogin"));
+        verifyNoMoreInteractions(eventPublisher);
     }
 
     /**
@@ -238,11 +269,7 @@ class UserServiceTest {
     void TestUpdateUser_WhenLoginAlreadyExists_ShouldThrowUserAlreadyExistsException() {
         String id = "userId";
         String existingLogin = "existingUser";
-        User existingUser = User.builder().id(id).login("oldLogin").name("oldName").password("oldPassword").build();
-        User userWithSameLogin = User.builder().id("anotherId").login(existingLogin).build();
-
-        when(userRepository.findById(id)).thenReturn(Optional.of(existingUser));
-        when(userRepository.findByLogin(existingLogin)).thenReturn(Optional.of(userWithSameLogin));
+        when(userRepository.update(any(User.class))).thenThrow(new UserAlreadyExistsException());
 
         User userToUpdate = User.builder().id(id).login(existingLogin).name("newName").password("newPassword").build();
 
@@ -259,16 +286,11 @@ class UserServiceTest {
     void TestUpdateUser_WhenPasswordIsNull_ShouldKeepExistingPassword() {
         String id = "userId";
         String oldLogin = "testUser";
-        String oldPassword = "oldPassword";
-        User existingUser = User.builder().id(id).login(oldLogin).name("oldName").password(oldPassword).build();
-
-        when(userRepository.findById(id)).thenReturn(Optional.of(existingUser));
 
         User userToUpdate = User.builder().id(id).login(oldLogin).name("newName").password(null).build();
 
-        when(userRepository.update(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
         assertThrows(UserEmptyDataException.class, () -> userService.update(id, userToUpdate));
+        verify(userRepository, never()).update(any(User.class));
 
     }
 
@@ -276,16 +298,16 @@ class UserServiceTest {
      * Tests the behavior of {@link UserService#findById(String)} when the user exists.
      * <p>
      * This test ensures that when a user with the specified ID exists in the repository,
-     * the method returns the User object.
+     * the method returns the UserSummary object.
      */
     @Test
     void TestFindById_WhenUserExists_ShouldReturnUser() {
         String userId = "userId";
-        User user = User.builder().id(userId).name("testName").login("testLogin").password("testPassword").build();
+        UserSummary user = UserSummary.builder().id(userId).name("testName").login("testLogin").build();
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 
-        User result = userService.findById(userId);
+        UserSummary result = userService.findById(userId);
 
         assertNotNull(result);
         assertEquals(userId, result.getId());
@@ -312,16 +334,16 @@ class UserServiceTest {
      * Tests the behavior of {@link UserService#findAll()} when users exist.
      * <p>
      * This test ensures that when users are present in the repository,
-     * the method returns a non-empty list of User objects.
+     * the method returns a non-empty list of UserSummary objects.
      */
     @Test
     void TestFindAll_WhenUsersExist_ShouldReturnListOfUsers() {
-        User user1 = User.builder().id("user1").name("testName1").login("testLogin1").password("testPassword1").build();
-        User user2 = User.builder().id("user2").name("testName2").login("testLogin2").password("testPassword2").build();
+        UserSummary user1 = UserSummary.builder().id("user1").name("testName1").login("testLogin1").build();
+        UserSummary user2 = UserSummary.builder().id("user2").name("testName2").login("testLogin2").build();
 
         when(userRepository.findAll()).thenReturn(List.of(user1, user2));
 
-        List<User> result = userService.findAll();
+        List<UserSummary> result = userService.findAll();
 
         assertFalse(result.isEmpty());
         assertEquals(2, result.size());
@@ -338,13 +360,139 @@ class UserServiceTest {
     void TestFindAll_WhenNoUsersExist_ShouldReturnEmptyList() {
         when(userRepository.findAll()).thenReturn(List.of());
 
-        List<User> result = userService.findAll();
+        List<UserSummary> result = userService.findAll();
 
         assertTrue(result.isEmpty());
         verify(userRepository, times(1)).findAll();
     }
 
 
+    /**
+     * Tests the behavior of {@link UserService#findPage(String, Integer)} when more users exist than fit in the page.
+     * <p>
+     * Ensures that the page is cut at the requested limit, that the next cursor points after its last user,
+     * and that following that cursor resumes right after it.
+     */
+    @Test
+    void TestFindPage_WhenMoreUsersExist_ShouldReturnNextCursor() {
+        UserSummary user1 = UserSummary.builder().id("user1").name("testName1").login("testLogin1").build();
+        UserSummary user2 = UserSummary.builder().id("user2").name("testName2").login("testLogin2").build();
+        UserSummary user3 = UserSummary.builder().id("user3").name("testName3").login("testLogin3").build();
+
+        when(userRepository.findPage(null, 3)).thenReturn(List.of(user1, user2, user3));
+        when(userRepository.findPage("user2", 3)).thenReturn(List.of(user3));
+
+        UserPage firstPage = userService.findPage(null, 2);
+        UserPage secondPage = userService.findPage(firstPage.getNextCursor(), 2);
+
+        assertEquals(List.of(user1, user2), firstPage.getUsers());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(List.of(user3), secondPage.getUsers());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    /**
+     * Tests the behavior of {@link UserService#findPage(String, Integer)} when the limit is too large.
+     * <p>
+     * Ensures that the limit sent to the repository is bounded by {@link UserService#MAX_PAGE_SIZE}.
+     */
+    @Test
+    void TestFindPage_WhenLimitIsTooLarge_ShouldUseMaxPageSize() {
+        when(userRepository.findPage(null, UserService.MAX_PAGE_SIZE + 1)).thenReturn(List.of());
+
+        UserPage page = userService.findPage(null, 1_000_000);
+
+        assertTrue(page.getUsers().isEmpty());
+        verify(userRepository, times(1)).findPage(null, UserService.MAX_PAGE_SIZE + 1);
+    }
+
+    /**
+     * Tests the behavior of {@link UserService#findAllByIds(java.util.Collection)} when some ids do not exist.
+     * <p>
+     * Ensures that the ids are looked up with a single repository call, without repeats, and that the missing ids
+     * are reported separately in request order.
+     */
+    @Test
+    void TestFindAllByIds_WhenSomeIdsDoNotExist_ShouldReturnFoundUsersAndNotFoundIds() {
+        UserSummary user = UserSummary.builder().id("id2").login("testUser").name("testName").build();
+        when(userRepository.findAllByIds(Set.of("id1", "id2", "id3"))).thenReturn(List.of(user));
+
+        UserBatch batch = userService.findAllByIds(List.of("id1", "id2", "id3", "id2", ""));
+
+        assertEquals(List.of("id2"), List.copyOf(batch.getUsers().keySet()));
+        assertEquals(user, batch.getUsers().get("id2"));
+        assertEquals(List.of("id1", "id3"), batch.getNotFound());
+        verify(userRepository, times(1)).findAllByIds(anyCollection());
+    }
+
+    /**
+     * Tests the behavior of {@link UserService#findAllByIds(java.util.Collection)} when too many ids are requested.
+     * <p>
+     * Ensures that a {@link TooManyIdsException} is thrown without querying the repository.
+     */
+    @Test
+    void TestFindAllByIds_WhenTooManyIds_ShouldThrowTooManyIdsException() {
+        List<String> ids = IntStream.rangeClosed(0, UserService.MAX_BATCH_IDS)
+                .mapToObj(i -> "id" + i).toList();
+
+        assertThrows(TooManyIdsException.class, () -> userService.findAllByIds(ids));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    /**
+     * Tests the behavior of {@link UserService#importUsers(List, List, java.util.function.UnaryOperator)} for a mixed chunk.
+     * <p>
+     * Ensures that invalid rows, repeated logins and stored logins are reported, and that only the remaining rows are
+     * hashed and saved with a single batch.
+     */
+    @Test
+    void TestImportUsers_WhenChunkHasInvalidAndDuplicateRows_ShouldSaveOnlyNewUsers() {
+        List<User> rows = List.of(
+                User.builder().name("newName").login("newUser").password("newPassword").build(),
+                User.builder().name("").login("emptyName").password("password").build(),
+                User.builder().name("otherName").login("newUser").password("otherPassword").build(),
+                User.builder().name("storedName").login("storedUser").password("storedPassword").build());
+        when(userRepository.findExistingLogins(Set.of("newUser", "storedUser"))).thenReturn(Set.of("storedUser"));
+        when(userIdGenerator.nextId()).thenReturn("newId");
+
+        List<UserImportResult> results = userService.importUsers(rows, List.of(11, 12, 13, 14),
+                passwords -> passwords.stream().map(password -> "hashed-" + password).toList());
+
+        assertEquals(List.of(11, 12, 13, 14), results.stream().map(UserImportResult::getRow).toList());
+        assertEquals(UserImportResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals("newId", results.get(0).getId());
+        assertEquals(UserImportResult.Status.INVALID, results.get(1).getStatus());
+        assertEquals("User name cannot be empty", results.get(1).getMessage());
+        assertEquals(UserImportResult.Status.DUPLICATE, results.get(2).getStatus());
+        assertEquals(UserImportResult.Status.DUPLICATE, results.get(3).getStatus());
+        verify(userRepository, times(1)).saveAll(argThat(users -> users.size() == 1
+                && users.get(0).getLogin().equals("newUser")
+                && users.get(0).getPassword().equals("hashed-newPassword")));
+    }
+
+    /**
+     * Tests the behavior of {@link UserService#importUsers(List, List, java.util.function.UnaryOperator)} when another
+     * writer stores one of the logins after the existence check.
+     * <p>
+     * Ensures that the chunk falls back to row-by-row saves so only the conflicting row is rejected.
+     */
+    @Test
+    void TestImportUsers_WhenBatchConflicts_ShouldRetryRowByRow() {
+        User first = User.builder().name("firstName").login("firstUser").password("firstPassword").build();
+        User second = User.builder().name("secondName").login("secondUser").password("secondPassword").build();
+        when(userRepository.findExistingLogins(any())).thenReturn(Set.of());
+        doThrow(new UserAlreadyExistsException()).when(userRepository).saveAll(argThat(users -> users.size() == 2));
+        doThrow(new UserAlreadyExistsException()).when(userRepository)
+                .saveAll(argThat(users -> users.size() == 1 && users.get(0).getLogin().equals("secondUser")));
+
+        List<UserImportResult> results = userService.importUsers(List.of(first, second), List.of(1, 2), passwords -> passwords);
+
+        assertEquals(UserImportResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(UserImportResult.Status.DUPLICATE, results.get(1).getStatus());
+        verify(userRepository, times(3)).saveAll(anyList());
+    }
+
      /* Tests the behavior of {@link UserService#deleteById(String)} when the user exists.
      * <p>
      * Ensures that when a user with the given ID exists in the repository,
@@ -354,28 +502,30 @@ class UserServiceTest {
     @Test
     void testDeleteById_WhenUserExists_ShouldDeleteSuccessfullyAndReturnMessage() {
       String userId = "testId";
-      when(userRepository.findById(userId)).thenReturn(Optional.of(new User("1", "testUser", "testName", "testPassword")));
+      when(userRepository.deleteById(userId)).thenReturn(1);
 
       String result = userService.deleteById(userId);
 
       assertEquals("User with ID: " + userId + " deleted successfully", result);
       verify(userRepository, times(1)).deleteById(userId);
+      verifyNoMoreInteractions(userRepository);
+      verify(eventPublisher).publishEvent(new UserChangedEvent(userId, null));
     }
 
     /**
      * Tests the behavior of {@link UserService#deleteById(String)} when the user does not exist.
      * <p>
      * Ensures that when a user with the given ID does not exist in the repository,
-     * the method throws a {@link UserNotFoundException} and does not attempt to delete the user.
+     * the method throws a {@link UserNotFoundException} and publishes no change.
      */
     @Test
     void testDeleteById_WhenUserDoesNotExist_ShouldThrowUserNotFoundException() {
       String userId = "nonExistentId";
-      when(userRepository.findById(userId)).thenReturn(Optional.empty());
+      when(userRepository.deleteById(userId)).thenReturn(0);
 
       assertThrows(UserNotFoundException.class, () -> userService.deleteById(userId));
 
-      verify(userRepository, never()).deleteById(anyString());
+      verifyNoInteractions(eventPublisher);
     }
 
     /**
@@ -0,0 +1,157 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserCreatedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link CoalescingUserRepository} class.
+ * <p>
+ * The delegate is blocked until every caller is waiting, so all callers are guaranteed to overlap.
+ */
+class CoalescingUserRepositoryTest {
+
+    private static final int CALLERS = 16;
+
+    @Mock
+    UserRepositoryAdapter delegate;
+
+    CoalescingUserRepository repository;
+
+    ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        repository = new CoalescingUserRepository(delegate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tests that N concurrent {@link CoalescingUserRepository#findByLogin(String)} calls for the same login
+     * run exactly one query, and that every caller receives an equal but separate copy of the user.
+     */
+    @Test
+    void TestFindByLogin_WhenCalledConcurrently_ShouldQueryOnce() throws Exception {
+        User user = User.builder().id("userId").name("testName").login("testUser").password("hash").build();
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findByLogin("testUser")).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(user);
+        });
+
+        List<Thread> callers = new ArrayList<>();
+        List<Future<Optional<User>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                synchronized (callers) {
+                    callers.add(Thread.currentThread());
+                }
+                return repository.findByLogin("testUser");
+            }));
+        }
+        awaitAllWaiting(callers);
+        release.countDown();
+
+        List<User> users = new ArrayList<>();
+        for (Future<Optional<User>> result : results) {
+            users.add(result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        verify(delegate, times(1)).findByLogin("testUser");
+        users.forEach(copy -> assertEquals(user, copy));
+        assertEquals(CALLERS, users.stream().map(System::identityHashCode).distinct().count());
+    }
+
+    /**
+     * Tests that a failed query is reported to every waiting caller and that the next call runs a new query.
+     */
+    @Test
+    void TestFindById_WhenQueryFails_ShouldPropagateAndRetryLater() {
+        when(delegate.findById("userId")).thenThrow(new IllegalStateException("database down")).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> repository.findById("userId"));
+        assertTrue(repository.findById("userId").isEmpty());
+
+        verify(delegate, times(2)).findById("userId");
+    }
+
+    /**
+     * Tests that a user created while a lookup of its login is in flight is found by a caller that arrives after the
+     * creation, instead of that caller joining the lookup that started before it and found nothing.
+     */
+    @Test
+    void TestFindByLogin_WhenUserIsCreatedMidFlight_ShouldNotJoinTheStaleLookup() throws Exception {
+        User user = User.builder().id("userId").name("testName").login("newUser").password("hash").build();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger queries = new AtomicInteger();
+        when(delegate.findByLogin("newUser")).thenAnswer(invocation -> {
+            if (queries.incrementAndGet() == 1) {
+                release.await();
+                return Optional.empty();
+            }
+            return Optional.of(user);
+        });
+
+        List<Thread> callers = new ArrayList<>();
+        Future<Optional<User>> staleLookup = executor.submit(() -> {
+            synchronized (callers) {
+                callers.add(Thread.currentThread());
+            }
+            return repository.findByLogin("newUser");
+        });
+        awaitWaiting(callers, 1);
+
+        repository.onUserCreated(new UserCreatedEvent("userId", "newUser"));
+        Optional<User> afterCreation = repository.findByLogin("newUser");
+        release.countDown();
+
+        assertEquals(Optional.of(user), afterCreation);
+        assertTrue(staleLookup.get(5, TimeUnit.SECONDS).isEmpty());
+        verify(delegate, times(2)).findByLogin("newUser");
+    }
+
+    /**
+     * Waits until every caller thread has started and is parked, either in the query or waiting for its result.
+     */
+    private void awaitAllWaiting(List<Thread> callers) throws InterruptedException {
+        awaitWaiting(callers, CALLERS);
+    }
+
+    /**
+     * Waits until the given number of caller threads have started and are parked.
+     */
+    private void awaitWaiting(List<Thread> callers, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (callers) {
+                if (callers.size() == expected && callers.stream().allMatch(thread ->
+                        thread.getState() == Thread.State.WAITING || thread.getState() == Thread.State.TIMED_WAITING)) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        fail("Callers did not all reach the lookup");
+    }
+}
@@ -0,0 +1,114 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs concurrent lookups through the {@link UserService} and the {@link CoalescingUserRepository} against the
+ * embedded database, counting the statements Hibernate prepares and the connections taken from the pool.
+ * <p>
+ * The adapter is spied on so the shared query can be held, inside its transaction, until every caller is waiting.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class CoalescingUserRepositoryTests {
+
+    private static final int CALLERS = 8;
+
+    @SpyBean
+    UserRepositoryAdapter adapter;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tests that N concurrent lookups of the same login run one query on one connection: the callers waiting for
+     * the shared query have not opened a transaction of their own.
+     */
+    @Test
+    void TestFindByLogin_WhenCalledConcurrently_ShouldUseOneConnectionAndOneQuery() throws Exception {
+        userService.save(User.builder().name("testName").login("coalesced").password("hash").build());
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return invocation.callRealMethod();
+        }).when(adapter).findByLogin(anyString());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Thread> callers = new ArrayList<>();
+        List<Future<Optional<User>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                synchronized (callers) {
+                    callers.add(Thread.currentThread());
+                }
+                return userService.findByLogin("coalesced");
+            }));
+        }
+        awaitAllWaiting(callers);
+        int activeConnections = ((HikariDataSource) dataSource).getHikariPoolMXBean().getActiveConnections();
+        release.countDown();
+
+        for (Future<Optional<User>> result : results) {
+            assertEquals("coalesced", result.get(5, TimeUnit.SECONDS).orElseThrow().getLogin());
+        }
+        assertTrue(activeConnections <= 1, "connections held while waiting: " + activeConnections);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        verify(adapter, times(1)).findByLogin("coalesced");
+    }
+
+    /**
+     * Waits until every caller thread has started and is parked, either in the query or waiting for its result.
+     */
+    private void awaitAllWaiting(List<Thread> callers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (callers) {
+                if (callers.size() == CALLERS && callers.stream().allMatch(thread ->
+                        thread.getState() == Thread.State.WAITING || thread.getState() == Thread.State.TIMED_WAITING)) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        fail("Callers did not all reach the lookup");
+    }
+}
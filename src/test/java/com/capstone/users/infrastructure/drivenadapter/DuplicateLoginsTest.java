@@ -0,0 +1,77 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DuplicateLogins} class against an embedded database, with the failures the database itself
+ * reports for real users tables.
+ */
+class DuplicateLoginsTest {
+
+    EmbeddedDatabase database;
+    JdbcTemplate jdbcTemplate;
+    DuplicateLogins duplicateLogins;
+
+    @BeforeEach
+    void setup() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        duplicateLogins = new DuplicateLogins(database, new H2Dialect().getViolatedConstraintNameExtractor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    /**
+     * Tests that a duplicate login is recognized whatever the name of its unique index, and that a duplicate id is
+     * not mistaken for one.
+     */
+    @Test
+    void TestIsDuplicateLogin_WhenLoginIndexHasAnyName_ShouldOnlyMatchTheLoginKey() {
+        createUsers("CONSTRAINT uk_users_login UNIQUE (login)");
+        UUID id = insert(UUID.randomUUID(), "testUser");
+
+        assertTrue(duplicateLogins.isDuplicateLogin(failedInsert(UUID.randomUUID(), "testUser")));
+        assertFalse(duplicateLogins.isDuplicateLogin(failedInsert(id, "otherUser")));
+    }
+
+    /**
+     * Tests that a unique index covering the login together with another column is not taken for the login key.
+     */
+    @Test
+    void TestIsDuplicateLogin_WhenIndexCoversMoreThanTheLogin_ShouldNotMatch() {
+        createUsers("CONSTRAINT uk_users_login_name UNIQUE (login, name)");
+        insert(UUID.randomUUID(), "testUser");
+
+        assertFalse(duplicateLogins.isDuplicateLogin(failedInsert(UUID.randomUUID(), "testUser")));
+    }
+
+    private void createUsers(String loginKey) {
+        jdbcTemplate.execute("CREATE TABLE users (id BINARY(16) NOT NULL, name VARCHAR(200) NOT NULL, "
+                + "login VARCHAR(20) NOT NULL, password VARCHAR(100) NOT NULL, PRIMARY KEY (id), " + loginKey + ")");
+    }
+
+    private UUID insert(UUID id, String login) {
+        jdbcTemplate.update("INSERT INTO users (id, name, login, password) VALUES (?, ?, ?, ?)",
+                UserIds.toBytes(id), "testName", login, "hash");
+        return id;
+    }
+
+    private DataAccessException failedInsert(UUID id, String login) {
+        return assertThrows(DataAccessException.class, () -> insert(id, login));
+    }
+}
@@ -0,0 +1,131 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the {@link LegacyPasswordMigrationJob} class against an embedded database holding a mix of hashed and
+ * plain text passwords. Chunks hold two rows, so every run spans several keyset pages.
+ * <p>
+ * The second-level cache is mocked so the tests can check which users are evicted.
+ */
+class LegacyPasswordMigrationJobTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    Cache cache;
+
+    EmbeddedDatabase database;
+    JdbcTemplate jdbcTemplate;
+    BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    List<UUID> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE users (id BINARY(16) NOT NULL, name VARCHAR(200) NOT NULL, "
+                + "login VARCHAR(20) NOT NULL, password VARCHAR(100) NOT NULL, PRIMARY KEY (id))");
+        for (int i = 0; i < 5; i++) {
+            String password = i % 2 == 0 ? "plain-" + i : passwordEncoder.encode("hashed-" + i);
+            UUID id = new UUID(0L, i + 1);
+            jdbcTemplate.update("INSERT INTO users (id, name, login, password) VALUES (?, ?, ?, ?)",
+                    UserIds.toBytes(id), "name-" + i, "login-" + i, password);
+            ids.add(id);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    /**
+     * Tests that every plain text password is replaced by its hash across all the pages, that hashed passwords are
+     * left as they are, and that every migrated user is evicted from the second-level cache.
+     */
+    @Test
+    void TestMigrate_WhenTableSpansSeveralChunks_ShouldHashEveryPlainTextPassword() {
+        String hashed = password(ids.get(1));
+
+        long migrated = job(jdbcTemplate).migrate(new UUID(0L, 0L));
+
+        assertEquals(3, migrated);
+        for (int i = 0; i < ids.size(); i += 2) {
+            assertTrue(passwordEncoder.matches("plain-" + i, password(ids.get(i))));
+            verify(cache).evict(UserData.class, ids.get(i));
+        }
+        assertEquals(hashed, password(ids.get(1)));
+        verify(cache, never()).evict(UserData.class, ids.get(1));
+        verify(cache, never()).evict(UserData.class, ids.get(3));
+    }
+
+    /**
+     * Tests that a run resumed after an id only migrates the users stored after it.
+     */
+    @Test
+    void TestMigrate_WhenResumedAfterAnId_ShouldSkipTheEarlierUsers() {
+        long migrated = job(jdbcTemplate).migrate(ids.get(2));
+
+        assertEquals(1, migrated);
+        assertEquals("plain-0", password(ids.get(0)));
+        assertEquals("plain-2", password(ids.get(2)));
+        assertTrue(passwordEncoder.matches("plain-4", password(ids.get(4))));
+    }
+
+    /**
+     * Tests that a password changed between the read of its chunk and the batch update is kept.
+     */
+    @Test
+    void TestMigrate_WhenPasswordChangesConcurrently_ShouldKeepTheNewPassword() {
+        String changed = passwordEncoder.encode("changed");
+        JdbcTemplate concurrentWriter = new JdbcTemplate(database) {
+            @Override
+            public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                           ParameterizedPreparedStatementSetter<T> pss) {
+                jdbcTemplate.update("UPDATE users SET password = ? WHERE id = ?", changed, UserIds.toBytes(ids.get(0)));
+                return super.batchUpdate(sql, batchArgs, batchSize, pss);
+            }
+        };
+
+        long migrated = job(concurrentWriter).migrate(new UUID(0L, 0L));
+
+        assertEquals(2, migrated);
+        assertEquals(changed, password(ids.get(0)));
+    }
+
+    private LegacyPasswordMigrationJob job(JdbcTemplate template) {
+        return new LegacyPasswordMigrationJob(template, new DataSourceTransactionManager(database), entityManagerFactory,
+                CHUNK_SIZE, 2, "");
+    }
+
+    private String password(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT password FROM users WHERE id = ?", String.class, UserIds.toBytes(id));
+    }
+}
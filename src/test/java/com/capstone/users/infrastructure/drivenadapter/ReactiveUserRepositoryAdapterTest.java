@@ -0,0 +1,111 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.exceptions.userExceptions.InvalidCursorException;
+import com.capstone.users.domain.exceptions.userExceptions.UserNotFoundException;
+import com.capstone.users.domain.model.UserSummary;
+import com.capstone.users.domain.service.ReactiveUserService;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ReactiveUserRepositoryAdapter} class, and the {@link ReactiveUserService} on top of it,
+ * against an embedded H2 database reached through its R2DBC driver.
+ * <p>
+ * The table has the same BINARY(16) id column as MySQL and holds three users whose ids are in insertion order.
+ */
+class ReactiveUserRepositoryAdapterTest {
+
+    private static final UUID FIRST = UUID.fromString("01920000-0000-7000-8000-000000000001");
+    private static final UUID SECOND = UUID.fromString("01920000-0000-7000-8000-000000000002");
+    private static final UUID THIRD = UUID.fromString("01920000-0000-7000-8000-000000000003");
+
+    DatabaseClient databaseClient;
+    ReactiveUserRepositoryAdapter adapter;
+    ReactiveUserService userService;
+
+    @BeforeEach
+    void setup() {
+        databaseClient = DatabaseClient.create(H2ConnectionFactory.inMemory(UUID.randomUUID().toString()));
+        databaseClient.sql("CREATE TABLE users (id BINARY(16) PRIMARY KEY, name VARCHAR(45), login VARCHAR(45) UNIQUE, password VARCHAR(100))")
+                .then()
+                .thenMany(Flux.range(1, 3).concatMap(i -> databaseClient
+                        .sql("INSERT INTO users (id, name, login, password) VALUES (:id, :name, :login, :password)")
+                        .bind("id", UserIds.toBytes(List.of(FIRST, SECOND, THIRD).get(i - 1)))
+                        .bind("name", "name-" + i)
+                        .bind("login", "login-" + i)
+                        .bind("password", "hash")
+                        .then()))
+                .blockLast();
+        adapter = new ReactiveUserRepositoryAdapter(databaseClient);
+        userService = new ReactiveUserService(adapter);
+    }
+
+    /**
+     * Tests that a user is found by login with its password and by id without it, and that unknown or malformed
+     * ids complete empty.
+     */
+    @Test
+    void TestFind_WhenUserExists_ShouldReturnItAndCompleteEmptyOtherwise() {
+        StepVerifier.create(adapter.findByLogin("login-2"))
+                .assertNext(user -> {
+                    assertEquals(SECOND.toString(), user.getId());
+                    assertEquals("hash", user.getPassword());
+                })
+                .verifyComplete();
+        StepVerifier.create(adapter.findById(FIRST.toString()))
+                .expectNext(new UserSummary(FIRST.toString(), "name-1", "login-1"))
+                .verifyComplete();
+        StepVerifier.create(adapter.findById(UUID.randomUUID().toString())).verifyComplete();
+        StepVerifier.create(adapter.findById("not-a-uuid")).verifyComplete();
+        StepVerifier.create(userService.findById("not-a-uuid")).verifyError(UserNotFoundException.class);
+    }
+
+    /**
+     * Tests that a batch lookup returns the found users in request order and lists the missing ids.
+     */
+    @Test
+    void TestFindAllByIds_WhenSomeIdsDoNotExist_ShouldReturnFoundUsersAndNotFoundIds() {
+        String missing = UUID.randomUUID().toString();
+
+        StepVerifier.create(userService.findAllByIds(List.of(THIRD.toString(), missing, FIRST.toString())))
+                .assertNext(batch -> {
+                    assertEquals(List.of(THIRD.toString(), FIRST.toString()), List.copyOf(batch.getUsers().keySet()));
+                    assertEquals(List.of(missing), batch.getNotFound());
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Tests that pages are read in id order with a cursor to the next page, and that a bad cursor is an error.
+     */
+    @Test
+    void TestFindPage_WhenMoreUsersExist_ShouldReturnNextCursor() {
+        String[] cursor = new String[1];
+        StepVerifier.create(userService.findPage(null, 2))
+                .assertNext(page -> {
+                    assertEquals(List.of(FIRST.toString(), SECOND.toString()),
+                            page.getUsers().stream().map(UserSummary::getId).toList());
+                    assertNotNull(page.getNextCursor());
+                    cursor[0] = page.getNextCursor();
+                })
+                .verifyComplete();
+
+        StepVerifier.create(userService.findPage(cursor[0], 2))
+                .assertNext(page -> {
+                    assertEquals(List.of(THIRD.toString()), page.getUsers().stream().map(UserSummary::getId).toList());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(adapter.findPage("not-a-uuid", 2)).verifyError(InvalidCursorException.class);
+    }
+}
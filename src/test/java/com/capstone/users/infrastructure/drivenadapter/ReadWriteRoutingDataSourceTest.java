@@ -0,0 +1,106 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.model.UserCreatedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ReadWriteRoutingDataSource} class against two embedded databases standing in for the primary
+ * and a replica. Each database holds a single row naming itself, so every query reports where it was routed.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    EmbeddedDatabase primary;
+    EmbeddedDatabase replica;
+    ReadWriteRoutingDataSource routingDataSource;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate readOnly;
+    TransactionTemplate readWrite;
+    ReadYourWrites readYourWrites = new ReadYourWrites(true, Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setup() {
+        primary = database("primary");
+        replica = database("replica");
+        routingDataSource = new ReadWriteRoutingDataSource(primary, List.of(replica));
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    /**
+     * Tests that read-only transactions are sent to the replica.
+     */
+    @Test
+    void TestRoute_WhenTransactionIsReadOnly_ShouldUseReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    /**
+     * Tests that read-write transactions and statements outside a transaction are sent to the primary.
+     */
+    @Test
+    void TestRoute_WhenTransactionIsReadWrite_ShouldUsePrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentDatabase()));
+        assertEquals("primary", currentDatabase());
+    }
+
+    /**
+     * Tests that a read-only transaction reads from the primary inside {@link ReadYourWrites#onPrimary}.
+     */
+    @Test
+    void TestRoute_WhenPrimaryIsForced_ShouldUsePrimary() {
+        assertEquals("primary", readOnly.execute(status -> readYourWrites.onPrimary(this::currentDatabase)));
+        assertFalse(ReadYourWrites.isPrimaryRequired());
+    }
+
+    /**
+     * Tests that reads of a user created moments ago go to the primary while other reads keep using the replica.
+     */
+    @Test
+    void TestRoute_WhenUserWasJustCreated_ShouldReadItFromPrimary() {
+        readYourWrites.onUserCreated(new UserCreatedEvent("newId", "newLogin"));
+
+        assertEquals("primary", readOnly.execute(status -> readYourWrites.read("newLogin", this::currentDatabase)));
+        assertEquals("primary", readOnly.execute(status -> readYourWrites.read("newId", this::currentDatabase)));
+        assertEquals("replica", readOnly.execute(status -> readYourWrites.read("otherLogin", this::currentDatabase)));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + System.nanoTime())
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return database;
+    }
+}
@@ -0,0 +1,53 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the {@link UserRepositoryAdapter} against the embedded database with the Hibernate second-level cache turned
+ * on, checking that the users cached by id and by login follow updates.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class SecondLevelCacheTests {
+
+    @Autowired
+    UserRepositoryAdapter adapter;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Tests that once a user is served from the natural-id cache, updating its login makes the old login unknown and
+     * the new one resolve to the same user.
+     */
+    @Test
+    void TestFindByLogin_WhenLoginIsUpdated_ShouldNotServeTheStaleLogin() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User user = adapter.save(User.builder().id(UUID.randomUUID().toString()).name("testName")
+                .login("cached-before").password("hash").build());
+        adapter.findByLogin("cached-before");
+        long hits = statistics.getNaturalIdCacheHitCount();
+        assertTrue(adapter.findByLogin("cached-before").isPresent());
+        assertTrue(statistics.getNaturalIdCacheHitCount() > hits, "the login was not served from the cache");
+
+        adapter.update(user.toBuilder().login("cached-after").build());
+
+        assertTrue(adapter.findByLogin("cached-before").isEmpty());
+        assertEquals(user.getId(), adapter.findByLogin("cached-after").orElseThrow().getId());
+        assertEquals("cached-after", adapter.findById(user.getId()).orElseThrow().getLogin());
+    }
+}
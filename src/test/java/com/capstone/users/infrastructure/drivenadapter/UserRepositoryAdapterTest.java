@@ -0,0 +1,92 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.exceptions.userExceptions.UserAlreadyExistsException;
+import com.capstone.users.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link UserRepositoryAdapter} class.
+ * <p>
+ * The JPA repository is mocked to fail with integrity violations, and DuplicateLogins to classify them, so the tests
+ * can check that only duplicate logins are reported as an existing user. The classification itself is covered by
+ * {@link DuplicateLoginsTest} and, through the whole stack, by {@link UserRepositoryAdapterTests}.
+ */
+class UserRepositoryAdapterTest {
+
+    private static final User USER = User.builder()
+            .id(UUID.randomUUID().toString()).name("testName").login("testUser").password("hash").build();
+
+    @Mock
+    UserMySQLRepository userMySQLRepository;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    DuplicateLogins duplicateLogins;
+
+    UserRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        adapter = new UserRepositoryAdapter(userMySQLRepository, jdbcTemplate, new ReadYourWrites(false, Duration.ZERO),
+                duplicateLogins);
+    }
+
+    /**
+     * Tests that saving a user whose login is already stored is reported as an existing user, and that a failure on
+     * any other constraint is rethrown.
+     */
+    @Test
+    void TestSave_WhenLoginIsTakenOrAnotherConstraintFails_ShouldOnlyReportTheDuplicateLogin() {
+        DataIntegrityViolationException login = violation();
+        DataIntegrityViolationException primaryKey = violation();
+        when(duplicateLogins.isDuplicateLogin(login)).thenReturn(true);
+        when(userMySQLRepository.saveAndFlush(any())).thenThrow(login).thenThrow(primaryKey);
+
+        assertThrows(UserAlreadyExistsException.class, () -> adapter.save(USER));
+        assertSame(primaryKey, assertThrows(DataIntegrityViolationException.class, () -> adapter.save(USER)));
+    }
+
+    /**
+     * Tests that an update setting a login that is already stored is reported as an existing user.
+     */
+    @Test
+    void TestUpdate_WhenLoginIsTaken_ShouldThrowUserAlreadyExists() {
+        DataIntegrityViolationException login = violation();
+        when(duplicateLogins.isDuplicateLogin(login)).thenReturn(true);
+        when(userMySQLRepository.updateById(any(), any(), any(), any())).thenThrow(login);
+
+        assertThrows(UserAlreadyExistsException.class, () -> adapter.update(USER));
+    }
+
+    /**
+     * Tests that an update failing on any other constraint is not mistaken for a duplicate login.
+     */
+    @Test
+    void TestUpdate_WhenAnotherConstraintFails_ShouldRethrow() {
+        DataIntegrityViolationException notNull = violation();
+        when(userMySQLRepository.updateById(any(), any(), any(), any())).thenThrow(notNull);
+
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class, () -> adapter.update(USER)));
+    }
+
+    private static DataIntegrityViolationException violation() {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLException("constraint violated", "23000", 1062));
+    }
+}
@@ -0,0 +1,88 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import com.capstone.users.domain.exceptions.userExceptions.UserAlreadyExistsException;
+import com.capstone.users.domain.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the {@link UserRepositoryAdapter} against the embedded database created from the README schema, so duplicate
+ * logins are reported by the database's own unique index.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class UserRepositoryAdapterTests {
+
+    @Autowired
+    UserRepositoryAdapter adapter;
+
+    /**
+     * Tests that saving a second user with a stored login is reported as an existing user.
+     */
+    @Test
+    void TestSave_WhenLoginIsTaken_ShouldThrowUserAlreadyExists() {
+        adapter.save(user(UUID.randomUUID(), "adapter-save"));
+
+        assertThrows(UserAlreadyExistsException.class, () -> adapter.save(user(UUID.randomUUID(), "adapter-save")));
+    }
+
+    /**
+     * Tests that saving a user with a stored id but a free login is not reported as an existing login.
+     */
+    @Test
+    void TestSave_WhenIdIsTaken_ShouldRethrow() {
+        UUID id = UUID.randomUUID();
+        adapter.save(user(id, "adapter-id-1"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> adapter.save(user(id, "adapter-id-2")));
+    }
+
+    /**
+     * Tests that updating a user to the login of another user is reported as an existing user.
+     */
+    @Test
+    void TestUpdate_WhenLoginIsTaken_ShouldThrowUserAlreadyExists() {
+        adapter.save(user(UUID.randomUUID(), "adapter-update-1"));
+        User user = adapter.save(user(UUID.randomUUID(), "adapter-update-2"));
+
+        assertThrows(UserAlreadyExistsException.class,
+                () -> adapter.update(user.toBuilder().login("adapter-update-1").build()));
+    }
+
+    /**
+     * Tests that a batch holding a stored login is reported as an existing user and inserts none of its users.
+     */
+    @Test
+    void TestSaveAll_WhenLoginIsTaken_ShouldThrowUserAlreadyExists() {
+        adapter.save(user(UUID.randomUUID(), "adapter-batch-taken"));
+        User free = user(UUID.randomUUID(), "adapter-batch-free");
+
+        assertThrows(UserAlreadyExistsException.class,
+                () -> adapter.saveAll(List.of(free, user(UUID.randomUUID(), "adapter-batch-taken"))));
+        assertTrue(adapter.findByLogin("adapter-batch-free").isEmpty());
+    }
+
+    /**
+     * Tests that a batch holding a stored id but free logins is not reported as an existing login.
+     */
+    @Test
+    void TestSaveAll_WhenIdIsTaken_ShouldRethrow() {
+        UUID id = UUID.randomUUID();
+        adapter.save(user(id, "adapter-batch-id-1"));
+
+        assertThrows(DuplicateKeyException.class, () -> adapter.saveAll(List.of(user(id, "adapter-batch-id-2"))));
+    }
+
+    private static User user(UUID id, String login) {
+        return User.builder().id(id.toString()).name("testName").login(login).password("hash").build();
+    }
+}
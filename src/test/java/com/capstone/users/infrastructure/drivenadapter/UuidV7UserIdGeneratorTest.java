@@ -0,0 +1,56 @@
+package com.capstone.users.infrastructure.drivenadapter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link UuidV7UserIdGenerator} class.
+ */
+class UuidV7UserIdGeneratorTest {
+
+    UuidV7UserIdGenerator generator = new UuidV7UserIdGenerator();
+
+    /**
+     * Tests that the generated ids are version 7 UUIDs with the RFC variant, carrying the current time.
+     */
+    @Test
+    void TestNext_ShouldReturnVersion7UuidWithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = generator.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+    }
+
+    /**
+     * Tests that ids created in a burst, many within the same millisecond, are strictly increasing
+     * both as UUIDs compared as unsigned bytes and in their binary column form.
+     */
+    @Test
+    void TestNext_WhenCalledInBurst_ShouldBeStrictlyIncreasing() {
+        UUID previous = generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = generator.next();
+            assertTrue(Arrays.compareUnsigned(UserIds.toBytes(previous), UserIds.toBytes(next)) < 0);
+            previous = next;
+        }
+    }
+
+    /**
+     * Tests that the String form round-trips through the binary column form.
+     */
+    @Test
+    void TestNextId_ShouldRoundTripThroughBinaryForm() {
+        String id = generator.nextId();
+
+        assertEquals(id, UserIds.fromBytes(UserIds.toBytes(UserIds.parse(id).orElseThrow())).toString());
+        assertTrue(UserIds.parse("not-a-uuid").isEmpty());
+    }
+}
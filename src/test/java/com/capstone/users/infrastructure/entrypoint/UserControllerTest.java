@@ -0,0 +1,84 @@
+package com.capstone.users.infrastructure.entrypoint;
+
+import com.capstone.users.domain.model.UserSummary;
+import com.capstone.users.domain.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for the {@link UserController} class, run through a standalone MockMvc.
+ */
+class UserControllerTest {
+
+    @Mock
+    UserService userService;
+
+    @Mock
+    PasswordEncoder passwordEncoder;
+
+    @Mock
+    UserImportService userImportService;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new UserController(userService, passwordEncoder, objectMapper, userImportService))
+                .build();
+    }
+
+    /**
+     * Tests that the export streams one JSON object per line, terminated by a newline, without any password field.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void TestExport_WhenUsersExist_ShouldStreamOneJsonObjectPerLineWithoutPasswords() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<UserSummary> consumer = invocation.getArgument(0);
+            consumer.accept(new UserSummary("id-1", "name-1", "login-1"));
+            consumer.accept(new UserSummary("id-2", "name-2", "login-2"));
+            return null;
+        }).when(userService).exportAll(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.endsWith("\n"));
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode user = objectMapper.readTree(lines[i]);
+            assertEquals("id-" + (i + 1), user.get("id").asText());
+            assertEquals("login-" + (i + 1), user.get("login").asText());
+            assertFalse(user.has("password"));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.capstone.users.infrastructure.entrypoint;
+
+import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserImportResult;
+import com.capstone.users.domain.service.UserService;
+import com.capstone.users.infrastructure.entrypoint.auth.BoundedPasswordEncoder;
+import com.capstone.users.infrastructure.entrypoint.dto.UserImportReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link UserImportService} class.
+ * <p>
+ * The UserService is mocked to create every user it is given, and chunks hold two rows. Rows are read with an
+ * ObjectMapper configured like the application's.
+ */
+class UserImportServiceTest {
+
+    @Mock
+    UserService userService;
+
+    @Mock
+    BoundedPasswordEncoder passwordEncoder;
+
+    UserImportService importService;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        importService = new UserImportService(userService, passwordEncoder, Jackson2ObjectMapperBuilder.json().build(), 2);
+        when(userService.importUsers(anyList(), anyList(), any())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            List<Integer> rowNumbers = invocation.getArgument(1);
+            List<UserImportResult> results = new ArrayList<>();
+            for (int i = 0; i < users.size(); i++) {
+                results.add(UserImportResult.created(rowNumbers.get(i),
+                        users.get(i).toBuilder().id("id-" + rowNumbers.get(i)).build()));
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Tests that a malformed NDJSON line after a committed chunk is reported as INVALID, and that the rows around it
+     * are still imported and numbered by their line.
+     */
+    @Test
+    void TestImportNdjson_WhenALineIsMalformed_ShouldReportItAndImportTheOtherRows() throws Exception {
+        String body = """
+                {"name":"name-1","login":"login-1","password":"secret"}
+                {"name":"name-2","login":"login-2","password":"secret"}
+                {"name":"name-3","login":"login-3",
+                {"name":"name-4","login":"login-4","password":"secret"}
+                """;
+
+        UserImportReport report = importService.importNdjson(stream(body));
+
+        assertEquals(4, report.getTotal());
+        assertEquals(3, report.getCreated());
+        assertEquals(List.of(UserImportResult.Status.CREATED, UserImportResult.Status.CREATED,
+                UserImportResult.Status.INVALID, UserImportResult.Status.CREATED),
+                report.getRows().stream().map(UserImportResult::getStatus).toList());
+        assertEquals(List.of(1, 2, 3, 4), report.getRows().stream().map(UserImportResult::getRow).toList());
+        assertEquals("login-4", report.getRows().get(3).getLogin());
+        verify(userService).importUsers(anyList(), eq(List.of(1, 2)), any());
+        verify(userService).importUsers(anyList(), eq(List.of(4)), any());
+    }
+
+    /**
+     * Tests that malformed lines do not cut the pending chunk short: every chunk but the last holds a full batch, and
+     * the rejected lines are reported between the imported rows in line order.
+     */
+    @Test
+    void TestImportNdjson_WhenLinesAreMalformed_ShouldKeepChunksFull() throws Exception {
+        String body = """
+                {"name":"name-1","login":"login-1","password":"secret"}
+                not json
+                {"name":"name-3","login":"login-3","password":"secret"}
+                not json
+                {"name":"name-5","login":"login-5","password":"secret"}
+                {"name":"name-6","login":"login-6","password":"secret"}
+                """;
+
+        UserImportReport report = importService.importNdjson(stream(body));
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), report.getRows().stream().map(UserImportResult::getRow).toList());
+        assertEquals(List.of(UserImportResult.Status.CREATED, UserImportResult.Status.INVALID,
+                UserImportResult.Status.CREATED, UserImportResult.Status.INVALID,
+                UserImportResult.Status.CREATED, UserImportResult.Status.CREATED),
+                report.getRows().stream().map(UserImportResult::getStatus).toList());
+        verify(userService).importUsers(anyList(), eq(List.of(1, 3)), any());
+        verify(userService).importUsers(anyList(), eq(List.of(5, 6)), any());
+        verify(userService, times(2)).importUsers(anyList(), anyList(), any());
+    }
+
+    /**
+     * Tests that CSV rows with the wrong number of fields or an unterminated quote are reported as INVALID.
+     */
+    @Test
+    void TestImportCsv_WhenRowsAreMalformed_ShouldReportThemAndImportTheOtherRows() throws Exception {
+        String body = """
+                login,name,password
+                login-1,name-1,secret
+                login-2,name-2
+                "login-3,name-3,secret
+                login-4,name-4,secret
+                """;
+
+        UserImportReport report = importService.importCsv(stream(body));
+
+        assertEquals(4, report.getTotal());
+        assertEquals(2, report.getCreated());
+        assertEquals("Row has 2 fields, expected 3", report.getRows().get(1).getMessage());
+        assertEquals(UserImportResult.Status.INVALID, report.getRows().get(2).getStatus());
+        assertEquals(List.of(2, 3, 4, 5), report.getRows().stream().map(UserImportResult::getRow).toList());
+        assertEquals("login-4", report.getRows().get(3).getLogin());
+    }
+
+    /**
+     * Tests that CSV rows are numbered by their line in the body, counting the header and blank lines.
+     */
+    @Test
+    void TestImportCsv_WhenBodyHasBlankLines_ShouldReportTheLineOfEachRow() throws Exception {
+        String body = """
+                login,name,password
+
+                login-3,name-3,secret
+                login-4,name-4
+
+                login-6,name-6,secret
+                """;
+
+        UserImportReport report = importService.importCsv(stream(body));
+
+        assertEquals(List.of(3, 4, 6), report.getRows().stream().map(UserImportResult::getRow).toList());
+        assertEquals("login-6", report.getRows().get(2).getLogin());
+        assertEquals(UserImportResult.Status.INVALID, report.getRows().get(1).getStatus());
+    }
+
+    private ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,181 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import com.capstone.users.domain.exceptions.userExceptions.AuthFailedException;
+import com.capstone.users.domain.model.User;
+import com.capstone.users.domain.model.UserChangedEvent;
+import com.capstone.users.domain.model.UserCreatedEvent;
+import com.capstone.users.domain.model.UserRepository;
+import com.capstone.users.domain.service.UserService;
+import com.capstone.users.infrastructure.drivenadapter.UuidV7UserIdGenerator;
+import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthToken;
+import com.capstone.users.infrastructure.entrypoint.auth.dto.LoginResquest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link AuthService} class.
+ * <p>
+ * The UserService and the JwtService are real; only the UserRepository is mocked, so the tests can assert
+ * exactly how many repository calls a single login makes.
+ */
+class AuthServiceTest {
+
+    private static final String SECRET_KEY = "VGhpcyBpcyBhIHZhbGlkIHNlY3JldCBrZXkgZm9yIEpXVCBzaWduaW5nIHdpdGggSFMyNTYhISEh";
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    PrincipalResolver principalResolver;
+
+    PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    JwtService jwtService;
+
+    UnknownLoginCache unknownLoginCache;
+
+    AuthService authService;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        JwtProperties properties = new JwtProperties();
+        properties.setActiveKeyId("default");
+        properties.setKeys(Map.of("default", SECRET_KEY));
+        jwtService = new JwtService(new JwtKeyRing(properties));
+        unknownLoginCache = new UnknownLoginCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        authService = new AuthService(new UserService(userRepository, eventPublisher, new UuidV7UserIdGenerator()), jwtService,
+                passwordEncoder, principalResolver, unknownLoginCache);
+    }
+
+    /**
+     * Tests the behavior of {@link AuthService#login(LoginResquest)} when the password is already hashed.
+     * <p>
+     * Ensures that a successful login loads the user exactly once and makes no other repository call.
+     */
+    @Test
+    void TestLogin_WhenPasswordMatches_ShouldQueryRepositoryOnce() {
+        User user = User.builder().id("userId").name("testName").login("testUser")
+                .password(passwordEncoder.encode("testPassword")).build();
+        when(userRepository.findByLogin("testUser")).thenReturn(Optional.of(user));
+
+        AuthToken result = authService.login(new LoginResquest("testUser", "testPassword"));
+
+        assertEquals("testUser", jwtService.verify(result.getToken()).getSubject());
+        verify(userRepository, times(1)).findByLogin("testUser");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    /**
+     * Tests the behavior of {@link AuthService#login(LoginResquest)} when the stored password is legacy plain text.
+     * <p>
+     * Ensures that a matching plain text password is accepted, replaced by its hash only if it is unchanged, and that
+     * the change is published.
+     */
+    @Test
+    void TestLogin_WhenPlainTextPasswordMatches_ShouldRehashIt() {
+        User user = User.builder().id("userId").name("testName").login("testUser").password("testPassword").build();
+        when(userRepository.findByLogin("testUser")).thenReturn(Optional.of(user));
+        when(userRepository.replacePassword(eq("userId"), eq("testPassword"), anyString())).thenReturn(true);
+
+        AuthToken result = authService.login(new LoginResquest("testUser", "testPassword"));
+
+        assertEquals("testUser", jwtService.verify(result.getToken()).getSubject());
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).replacePassword(eq("userId"), eq("testPassword"), hash.capture());
+        assertTrue(passwordEncoder.matches("testPassword", hash.getValue()));
+        verify(eventPublisher).publishEvent(new UserChangedEvent("userId", "testUser"));
+    }
+
+    /**
+     * Tests the behavior of {@link AuthService#login(LoginResquest)} when a wrong password is given for a legacy
+     * plain text password.
+     * <p>
+     * Ensures that an {@link AuthFailedException} is thrown and the stored password is left as it is.
+     */
+    @Test
+    void TestLogin_WhenPlainTextPasswordDoesNotMatch_ShouldThrowAuthFailedExceptionWithoutUpdating() {
+        User user = User.builder().id("userId").name("testName").login("testUser").password("testPassword").build();
+        when(userRepository.findByLogin("testUser")).thenReturn(Optional.of(user));
+
+        assertThrows(AuthFailedException.class, () -> authService.login(new LoginResquest("testUser", "wrongPassword")));
+
+        verify(userRepository, times(1)).findByLogin("testUser");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    /**
+     * Tests the behavior of {@link AuthService#login(LoginResquest)} when the password is wrong.
+     * <p>
+     * Ensures that an {@link AuthFailedException} is thrown after a single repository call.
+     */
+    @Test
+    void TestLogin_WhenPasswordDoesNotMatch_ShouldThrowAuthFailedException() {
+        User user = User.builder().id("userId").name("testName").login("testUser")
+                .password(passwordEncoder.encode("testPassword")).build();
+        when(userRepository.findByLogin("testUser")).thenReturn(Optional.of(user));
+
+        assertThrows(AuthFailedException.class, () -> authService.login(new LoginResquest("testUser", "wrongPassword")));
+
+        verify(userRepository, times(1)).findByLogin("testUser");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    /**
+     * Tests the behavior of {@link AuthService#login(LoginResquest)} when the login does not exist.
+     * <p>
+     * Ensures that an {@link AuthFailedException} is thrown instead of a NoSuchElementException.
+     */
+    @Test
+    void TestLogin_WhenUserDoesNotExist_ShouldThrowAuthFailedException() {
+        when(userRepository.findByLogin("unknown")).thenReturn(Optional.empty());
+
+        assertThrows(AuthFailedException.class, () -> authService.login(new LoginResquest("unknown", "testPassword")));
+
+        verify(userRepository, times(1)).findByLogin("unknown");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    /**
+     * Tests the behavior of {@link AuthService#login(LoginResquest)} when the same unknown login is tried repeatedly.
+     * <p>
+     * Ensures that only the first attempt queries the repository, that the failure carries no stack trace, and that
+     * the login is queried again once a user is created with it.
+     */
+    @Test
+    void TestLogin_WhenUnknownLoginIsRetried_ShouldQueryRepositoryOnceUntilUserIsCreated() {
+        when(userRepository.findByLogin("unknown")).thenReturn(Optional.empty());
+
+        assertThrows(AuthFailedException.class, () -> authService.login(new LoginResquest("unknown", "testPassword")));
+        AuthFailedException exception = assertThrows(AuthFailedException.class,
+                () -> authService.login(new LoginResquest("unknown", "testPassword")));
+
+        assertEquals(0, exception.getStackTrace().length);
+        verify(userRepository, times(1)).findByLogin("unknown");
+
+        unknownLoginCache.onUserCreated(new UserCreatedEvent("userId", "unknown"));
+        assertThrows(AuthFailedException.class, () -> authService.login(new LoginResquest("unknown", "testPassword")));
+
+        verify(userRepository, times(2)).findByLogin("unknown");
+    }
+}
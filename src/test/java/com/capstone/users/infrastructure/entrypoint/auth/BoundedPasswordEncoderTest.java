@@ -0,0 +1,86 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.domain.exceptions.PasswordHashingUnavailableException;
+import com.capstone.users.infrastructure.entrypoint.advice.ApplicationExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link BoundedPasswordEncoder} class with one hashing thread and a queue of one task, so two
+ * blocked hashes fill the pool.
+ */
+class BoundedPasswordEncoderTest {
+
+    PasswordEncoder delegate = mock(PasswordEncoder.class);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService callers = Executors.newFixedThreadPool(2);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setup() {
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordEncoder.destroy();
+    }
+
+    /**
+     * Tests that a hash requested while the thread is busy and the queue is full fails at once, is answered with 503
+     * Service Unavailable, and that the queued hashes still complete.
+     */
+    @Test
+    void TestMatches_WhenPoolIsFull_ShouldRejectWithServiceUnavailable() throws Exception {
+        Future<String> running = callers.submit(() -> passwordEncoder.encode("running"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> queued = callers.submit(() -> passwordEncoder.encode("queued"));
+        awaitQueued();
+
+        PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordEncoder.matches("rejected", "hash"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                new ApplicationExceptionHandler().handleException(exception).getStatus());
+        verify(delegate, never()).matches(any(), any());
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Waits until the second hash has been queued behind the running one.
+     */
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value() == 0) {
+            if (System.nanoTime() > deadline) {
+                fail("The second hash was not queued");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
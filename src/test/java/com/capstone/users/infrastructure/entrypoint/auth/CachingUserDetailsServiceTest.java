@@ -0,0 +1,60 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link CachingUserDetailsService} class, reading its "users.user-details" cache metrics.
+ */
+class CachingUserDetailsServiceTest {
+
+    @Mock
+    UserDetailsService delegate;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    CachingUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        userDetailsService = new CachingUserDetailsService(delegate, 100, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    /**
+     * Tests that a repeated lookup is served from the cache, and that hits, misses, successful loads and failed loads
+     * are all recorded.
+     */
+    @Test
+    void TestLoadUserByUsername_WhenLoadedTwiceAndOnceMissing_ShouldRecordHitMissAndLoadStats() {
+        UserAuth user = UserAuth.builder().id("userId").name("testName").login("testUser").password("hash").build();
+        when(delegate.loadUserByUsername("testUser")).thenReturn(user);
+        when(delegate.loadUserByUsername("unknown")).thenThrow(new UsernameNotFoundException("not found"));
+
+        assertSame(user, userDetailsService.loadUserByUsername("testUser"));
+        assertSame(user, userDetailsService.loadUserByUsername("testUser"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("unknown"));
+
+        verify(delegate, times(1)).loadUserByUsername("testUser");
+        assertEquals(1.0, stat("cache.gets", "hit"));
+        assertEquals(2.0, stat("cache.gets", "miss"));
+        assertEquals(1.0, stat("cache.load", "success"));
+        assertEquals(1.0, stat("cache.load", "failure"));
+        assertTrue(meterRegistry.get("cache.load.duration").tag("cache", "users.user-details")
+                .timeGauge().value() > 0);
+    }
+
+    private double stat(String name, String result) {
+        return meterRegistry.get(name).tag("cache", "users.user-details").tag("result", result).functionCounter().count();
+    }
+}
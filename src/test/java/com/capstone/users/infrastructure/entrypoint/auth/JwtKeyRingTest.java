@@ -0,0 +1,72 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link JwtKeyRing} class loading its keys from a key file.
+ */
+class JwtKeyRingTest {
+
+    private static final String OLD_KEY = "VGhpcyBpcyBhIHZhbGlkIHNlY3JldCBrZXkgZm9yIEpXVCBzaWduaW5nIHdpdGggSFMyNTYhISEh";
+    private static final String NEW_KEY = "QW5vdGhlciB2YWxpZCBzZWNyZXQga2V5IGZvciBKV1Qgc2lnbmluZyB3aXRoIEhTMjU2ISE=";
+
+    @TempDir
+    Path directory;
+
+    Path keysFile;
+
+    JwtKeyRing keyRing;
+
+    JwtService jwtService;
+
+    @BeforeEach
+    void setup() throws Exception {
+        keysFile = directory.resolve("jwt-keys.properties");
+        Files.writeString(keysFile, "jwt.active-key-id=old\njwt.keys.old=" + OLD_KEY + "\n");
+        JwtProperties properties = new JwtProperties();
+        properties.setKeysFile(keysFile.toString());
+        keyRing = new JwtKeyRing(properties);
+        jwtService = new JwtService(keyRing);
+    }
+
+    /**
+     * Tests that a reload picks up a key added to the file, signs new tokens with it, and still accepts tokens
+     * signed with the previous key.
+     */
+    @Test
+    void TestReload_WhenKeyFileIsRotated_ShouldSignWithNewKeyAndAcceptOldTokens() throws Exception {
+        String oldToken = jwtService.getUserToken(user());
+
+        Files.writeString(keysFile, "jwt.active-key-id=new\njwt.keys.old=" + OLD_KEY + "\njwt.keys.new=" + NEW_KEY + "\n");
+        new JwtKeysEndpoint(keyRing).reload();
+
+        assertEquals("new", keyRing.getActiveKeyId());
+        assertEquals(Set.of("old", "new"), keyRing.getKeyIds());
+        assertEquals("testUser", jwtService.verify(oldToken).getSubject());
+        assertEquals("testUser", jwtService.verify(jwtService.getUserToken(user())).getSubject());
+    }
+
+    /**
+     * Tests that a key file naming an unknown active key is rejected and the current keys are kept.
+     */
+    @Test
+    void TestReload_WhenKeyFileIsInvalid_ShouldKeepCurrentKeys() throws Exception {
+        Files.writeString(keysFile, "jwt.active-key-id=missing\njwt.keys.old=" + OLD_KEY + "\n");
+
+        assertThrows(IllegalArgumentException.class, keyRing::reload);
+        assertEquals("old", keyRing.getActiveKeyId());
+    }
+
+    private UserAuth user() {
+        return UserAuth.builder().id("userId").name("testName").login("testUser").build();
+    }
+}
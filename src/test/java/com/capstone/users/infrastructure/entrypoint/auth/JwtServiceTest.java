@@ -0,0 +1,94 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link JwtService} class verifying tokens signed with the keys of a {@link JwtKeyRing}.
+ */
+class JwtServiceTest {
+
+    private static final String KEY = "VGhpcyBpcyBhIHZhbGlkIHNlY3JldCBrZXkgZm9yIEpXVCBzaWduaW5nIHdpdGggSFMyNTYhISEh";
+    private static final String OTHER_KEY = "QW5vdGhlciB2YWxpZCBzZWNyZXQga2V5IGZvciBKV1Qgc2lnbmluZyB3aXRoIEhTMjU2ISE=";
+
+    JwtKeyRing keyRing;
+
+    JwtService jwtService;
+
+    @BeforeEach
+    void setup() {
+        keyRing = keyRing("current", KEY);
+        jwtService = new JwtService(keyRing);
+    }
+
+    /**
+     * Tests that a valid token is verified once into its subject, expiration and claims.
+     */
+    @Test
+    void TestVerify_WhenTokenIsValid_ShouldReturnItsClaims() {
+        VerifiedToken verified = jwtService.verify(jwtService.getUserToken(user()));
+
+        assertEquals("testUser", verified.getSubject());
+        assertEquals("userId", verified.getClaims().get(JwtService.USER_ID_CLAIM));
+        assertFalse(verified.isExpired());
+    }
+
+    /**
+     * Tests that a token whose expiration has passed is rejected.
+     */
+    @Test
+    void TestVerify_WhenTokenHasExpired_ShouldThrowExpiredJwt() {
+        String token = keyRing.signWith(Jwts.builder()
+                .setSubject("testUser")
+                .setIssuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000)))
+                .compact();
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(token));
+    }
+
+    /**
+     * Tests that a token whose payload was changed after signing is rejected.
+     */
+    @Test
+    void TestVerify_WhenPayloadIsTampered_ShouldThrowSignatureException() {
+        String[] parts = jwtService.getUserToken(user()).split("\\.");
+        String otherPayload = jwtService.getUserToken(UserAuth.builder().id("otherId").name("otherName")
+                .login("otherUser").build()).split("\\.")[1];
+
+        assertThrows(SignatureException.class,
+                () -> jwtService.verify(parts[0] + "." + otherPayload + "." + parts[2]));
+    }
+
+    /**
+     * Tests that a token signed under a key id the ring does not hold is rejected.
+     */
+    @Test
+    void TestVerify_WhenKeyIdIsUnknown_ShouldThrowJwtException() {
+        String token = new JwtService(keyRing("retired", OTHER_KEY)).getUserToken(user());
+
+        JwtException exception = assertThrows(JwtException.class, () -> jwtService.verify(token));
+        assertTrue(exception.getMessage().contains("retired"));
+    }
+
+    private static JwtKeyRing keyRing(String keyId, String key) {
+        JwtProperties properties = new JwtProperties();
+        properties.setActiveKeyId(keyId);
+        properties.setKeys(Map.of(keyId, key));
+        return new JwtKeyRing(properties);
+    }
+
+    private UserAuth user() {
+        return UserAuth.builder().id("userId").name("testName").login("testUser").build();
+    }
+}
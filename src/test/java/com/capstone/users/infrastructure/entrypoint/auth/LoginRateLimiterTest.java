@@ -0,0 +1,88 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.domain.exceptions.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link LoginRateLimiter} class.
+ * <p>
+ * The limiter runs on a fake clock: 6 logins per minute (one every 10 seconds) with a burst of 3 and a delay of at
+ * most 2 seconds, and 60 requests per minute with a burst of 10 per address. Delays are recorded instead of slept.
+ */
+class LoginRateLimiterTest {
+
+    AtomicLong clock = new AtomicLong();
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    List<Long> delays = new ArrayList<>();
+
+    LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setup() {
+        limiter = new LoginRateLimiter(true, 6, 3, Duration.ofSeconds(2), 60, 10, 1000, meterRegistry, clock::get, delays::add);
+    }
+
+    /**
+     * Tests that a login may use its burst at once, that further attempts for it are delayed by at most the maximum
+     * delay instead of being rejected, and that it is not delayed again once its bucket refilled.
+     */
+    @Test
+    void TestAcquireLogin_WhenBurstIsUsed_ShouldDelayUntilRefilledWithoutRejecting() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquireLogin("testUser", "10.0.0." + i);
+        }
+        assertEquals(List.of(), delays);
+
+        limiter.acquireLogin("testUser", "10.0.0.9");
+        limiter.acquireLogin("otherUser", "10.0.0.9");
+
+        assertEquals(List.of(TimeUnit.SECONDS.toNanos(2)), delays);
+        assertEquals(1.0, meterRegistry.get("users.auth.throttled").tag("key", "login").counter().count());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        limiter.acquireLogin("testUser", "10.0.0.9");
+        assertEquals(1, delays.size());
+    }
+
+    /**
+     * Tests that one address is limited across every login it tries.
+     */
+    @Test
+    void TestAcquireLogin_WhenAddressTriesManyLogins_ShouldRejectTheAddress() {
+        for (int i = 0; i < 10; i++) {
+            limiter.acquireLogin("user" + i, "10.0.0.1");
+        }
+
+        TooManyLoginAttemptsException exception = assertThrows(TooManyLoginAttemptsException.class,
+                () -> limiter.acquireLogin("user10", "10.0.0.1"));
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("users.auth.throttled").tag("key", "address").counter().count());
+        limiter.acquireAddress("10.0.0.2");
+    }
+
+    /**
+     * Tests that a disabled limiter neither rejects nor delays any request.
+     */
+    @Test
+    void TestAcquireLogin_WhenDisabled_ShouldNeverThrottle() {
+        LoginRateLimiter disabled = new LoginRateLimiter(false, 6, 3, Duration.ofSeconds(2), 60, 10, 1000, meterRegistry,
+                clock::get, delays::add);
+
+        for (int i = 0; i < 20; i++) {
+            disabled.acquireLogin("testUser", "10.0.0.1");
+        }
+
+        assertEquals(List.of(), delays);
+    }
+}
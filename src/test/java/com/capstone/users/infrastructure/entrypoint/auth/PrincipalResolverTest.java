@@ -0,0 +1,84 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link PrincipalResolver} class in each principal mode.
+ */
+class PrincipalResolverTest {
+
+    @Mock
+    UserDetailsService userDetailsService;
+
+    JwtProperties jwtProperties = new JwtProperties();
+
+    PrincipalResolver principalResolver;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        principalResolver = new PrincipalResolver(userDetailsService, jwtProperties);
+    }
+
+    /**
+     * Tests that in STATELESS mode the user is built from the claims of the token without loading it.
+     */
+    @Test
+    void TestResolve_WhenStatelessAndClaimsArePresent_ShouldNotLoadTheUser() {
+        jwtProperties.setPrincipalMode(JwtProperties.PrincipalMode.STATELESS);
+
+        UserAuth principal = principalResolver.resolve(token(userClaims()));
+
+        assertEquals("userId", principal.getId());
+        assertEquals("testName", principal.getName());
+        assertEquals("testUser", principal.getLogin());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    /**
+     * Tests that in STATELESS mode a token issued without the user claims still loads the user.
+     */
+    @Test
+    void TestResolve_WhenStatelessAndClaimsAreMissing_ShouldLoadTheUser() {
+        jwtProperties.setPrincipalMode(JwtProperties.PrincipalMode.STATELESS);
+        UserAuth user = UserAuth.builder().id("userId").name("testName").login("testUser").build();
+        when(userDetailsService.loadUserByUsername("testUser")).thenReturn(user);
+
+        assertSame(user, principalResolver.resolve(token(Jwts.claims().setSubject("testUser"))));
+    }
+
+    /**
+     * Tests that in DATABASE mode the user is loaded even when the token carries its claims.
+     */
+    @Test
+    void TestResolve_WhenDatabaseMode_ShouldLoadTheUser() {
+        UserAuth user = UserAuth.builder().id("userId").name("testName").login("testUser").build();
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(user);
+
+        assertSame(user, principalResolver.resolve(token(userClaims())));
+        verify(userDetailsService).loadUserByUsername("testUser");
+    }
+
+    private static Claims userClaims() {
+        Claims claims = Jwts.claims().setSubject("testUser");
+        claims.put(JwtService.USER_ID_CLAIM, "userId");
+        claims.put(JwtService.NAME_CLAIM, "testName");
+        claims.put(JwtService.LOGIN_CLAIM, "testUser");
+        return claims;
+    }
+
+    private static VerifiedToken token(Claims claims) {
+        return VerifiedToken.builder().token("token").subject(claims.getSubject()).claims(claims).build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.domain.model.User;
+import com.capstone.users.infrastructure.entrypoint.auth.dto.AuthToken;
+import com.capstone.users.infrastructure.entrypoint.auth.dto.LoginResquest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the login flow with the {@link UnknownLoginCache} enabled, on a real port against the embedded database.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "users.unknown-login-cache.enabled=true")
+@ActiveProfiles("test")
+class UnknownLoginCacheTests {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    /**
+     * Sends requests with the java.net.http client, which reads a 401 answer to a POST instead of failing on it.
+     */
+    @BeforeEach
+    void setup() {
+        restTemplate.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
+    }
+
+    /**
+     * Tests that a login refused while it did not exist is accepted right after it is registered, instead of being
+     * answered from the cache until the entry expires.
+     */
+    @Test
+    void TestLogin_WhenLoginIsRegisteredAfterAFailedAttempt_ShouldSucceed() {
+        LoginResquest login = new LoginResquest("registered-later", "secret");
+        assertEquals(HttpStatus.UNAUTHORIZED, restTemplate.postForEntity("/api/v1/users/auth/login", login, String.class).getStatusCode());
+
+        User user = User.builder().name("registered").login("registered-later").password("secret").build();
+        assertEquals(HttpStatus.OK, restTemplate.postForEntity("/api/v1/users/auth/register", user, AuthToken.class).getStatusCode());
+        ResponseEntity<AuthToken> response = restTemplate.postForEntity("/api/v1/users/auth/login", login, AuthToken.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody().getToken());
+    }
+}
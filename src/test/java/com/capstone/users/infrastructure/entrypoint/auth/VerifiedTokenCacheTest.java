@@ -0,0 +1,92 @@
+package com.capstone.users.infrastructure.entrypoint.auth;
+
+import com.capstone.users.configuration.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link VerifiedTokenCache} class, on its own and in front of the {@link JwtAuthenticationFilter}.
+ */
+class VerifiedTokenCacheTest {
+
+    private static final String KEY = "VGhpcyBpcyBhIHZhbGlkIHNlY3JldCBrZXkgZm9yIEpXVCBzaWduaW5nIHdpdGggSFMyNTYhISEh";
+
+    JwtService jwtService;
+    PrincipalResolver principalResolver;
+    VerifiedTokenCache verifiedTokenCache;
+    JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setup() {
+        JwtProperties properties = new JwtProperties();
+        properties.setActiveKeyId("current");
+        properties.setKeys(Map.of("current", KEY));
+        jwtService = spy(new JwtService(new JwtKeyRing(properties)));
+        principalResolver = mock(PrincipalResolver.class);
+        verifiedTokenCache = new VerifiedTokenCache(true, 100, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtService, principalResolver, verifiedTokenCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Tests that a second request with the same token is authenticated from the cache without parsing the token or
+     * resolving its user again.
+     */
+    @Test
+    void TestDoFilter_WhenTokenIsCached_ShouldNotParseItAgain() throws Exception {
+        UserAuth user = UserAuth.builder().id("userId").name("testName").login("testUser").build();
+        when(principalResolver.resolve(any())).thenReturn(user);
+        String token = jwtService.getUserToken(user);
+
+        assertSame(user, authenticate(token));
+        assertSame(user, authenticate(token));
+
+        verify(jwtService, times(1)).verify(token);
+        verify(principalResolver, times(1)).resolve(any());
+        assertEquals(1, verifiedTokenCache.getStats().hitCount());
+    }
+
+    /**
+     * Tests that an entry whose token has already expired is not served.
+     */
+    @Test
+    void TestGet_WhenTokenHasExpired_ShouldReturnNull() {
+        String token = "expired-token";
+        VerifiedToken verifiedToken = VerifiedToken.builder()
+                .token(token)
+                .subject("testUser")
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .claims(Jwts.claims().setSubject("testUser"))
+                .build();
+
+        verifiedTokenCache.put(verifiedToken, UserAuth.builder().id("userId").login("testUser").build());
+
+        assertNull(verifiedTokenCache.get(token));
+    }
+
+    private Object authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+}
@@ -0,0 +1,9 @@
+-- The users table as documented in the README, for tests that run against an embedded H2 database in MySQL mode.
+CREATE TABLE IF NOT EXISTS `users` (
+  `id` BINARY(16) NOT NULL,
+  `name` VARCHAR(200) NOT NULL,
+  `login` VARCHAR(20) NOT NULL,
+  `password` VARCHAR(100) NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `login_UNIQUE` (`login` ASC)
+);